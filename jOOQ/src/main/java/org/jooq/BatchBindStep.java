@@ -43,6 +43,10 @@ import org.jetbrains.annotations.*;
 import java.sql.Statement;
 import java.util.Map;
 
+import org.jooq.conf.Settings;
+
+import org.reactivestreams.Publisher;
+
 /**
  * This type is used for the {@link Batch}'s DSL API.
  * <p>
@@ -115,4 +119,27 @@ public interface BatchBindStep extends Batch {
     @NotNull @CheckReturnValue
     @Support
     BatchBindStep bind(Map<String, Object>... namedBindValues);
+
+    /**
+     * Set indexed bind values produced by a {@link Publisher} onto the batch
+     * statement.
+     * <p>
+     * Each element emitted by the publisher is bound like a call to
+     * {@link #bind(Object...)}, after any bind values that have been set
+     * already. The publisher replaces any previously bound publisher.
+     * <p>
+     * Rather than collecting all bind values first, the batch is executed
+     * in sub-batches of {@link Settings#getBatchStreamSize()} rows, or of the
+     * rows that have been received when
+     * {@link Settings#getBatchFlushInterval()} elapses. When the batch is
+     * consumed as a {@link Publisher} itself, up to
+     * {@link Settings#getBatchMaxInFlight()} sub-batches are executed
+     * concurrently on the R2DBC connection, and no more rows are requested
+     * from the publisher than what fits into those sub-batches, until
+     * their update counts have been requested downstream. This allows for
+     * ingesting unbounded streams without buffering them in memory.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    BatchBindStep bind(Publisher<? extends Object[]> bindValues);
 }
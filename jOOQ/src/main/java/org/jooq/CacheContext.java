@@ -42,10 +42,15 @@ import org.jooq.impl.CacheType;
 /**
  * The parameter object passed to the
  * {@link CacheProvider#provide(CacheContext)} method.
+ * <p>
+ * The context remains associated with the provided cache for as long as jOOQ
+ * uses it, and collects {@link CacheStatistics} about its usage.
+ * {@link CacheProvider} implementations may keep a reference to it in order to
+ * observe the cache.
  *
  * @author Lukas Eder
  */
-public interface CacheContext extends Scope {
+public interface CacheContext extends Scope, CacheStatistics {
 
     /**
      * The cache type for which a cache should be provided.
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.conf.Settings;
+import org.jooq.impl.CacheType;
+
+/**
+ * Statistics about the usage of a cache of a given {@link CacheType}.
+ * <p>
+ * A {@link CacheContext} exposes these statistics for the cache that has been
+ * provided for it, while {@link Configuration#cacheStatistics()} produces
+ * snapshots of them, e.g. to be polled periodically by a metrics system.
+ *
+ * @author Lukas Eder
+ */
+public interface CacheStatistics {
+
+    /**
+     * The cache type whose cache is described by these statistics.
+     */
+    CacheType cacheType();
+
+    /**
+     * The number of lookups that have been served from the cache so far.
+     */
+    long hits();
+
+    /**
+     * The number of lookups that could not be served from the cache so far,
+     * and whose values had to be computed.
+     */
+    long misses();
+
+    /**
+     * The total time in nanoseconds spent computing values on cache misses.
+     */
+    long loadTime();
+
+    /**
+     * The number of entries that have been evicted from the cache so far.
+     * <p>
+     * This is only maintained by caches that report their evictions, such as
+     * the bounded caches provided by jOOQ's default {@link CacheProvider}.
+     */
+    long evictions();
+
+    /**
+     * The number of lookups that bypassed the cache so far.
+     * <p>
+     * This happens when caching is turned off for the {@link CacheType} in
+     * {@link Settings}, e.g. via {@link Settings#isReflectionCaching()}, or
+     * when the {@link CacheProvider} did not provide any cache.
+     */
+    long bypasses();
+
+    /**
+     * The current number of entries in the cache.
+     */
+    int size();
+}
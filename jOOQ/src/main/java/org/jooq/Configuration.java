@@ -53,6 +53,7 @@ import javax.sql.DataSource;
 
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.CacheType;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConfiguration;
@@ -379,6 +380,16 @@ public interface Configuration extends Serializable {
     @NotNull
     CacheProvider cacheProvider();
 
+    /**
+     * Get a snapshot of the {@link CacheStatistics} of all the caches used by
+     * this configuration, per {@link CacheType}.
+     * <p>
+     * The resulting map contains an entry for every {@link CacheType}. Cache
+     * types that have not been used yet report empty statistics.
+     */
+    @NotNull
+    Map<CacheType, CacheStatistics> cacheStatistics();
+
     /**
      * Get this configuration's underlying transaction provider.
      * <p>
@@ -74,6 +74,17 @@ import org.jetbrains.annotations.Nullable;
  * <p>
  * Note: Unlike usual implementations of {@link Iterable}, a <code>Cursor</code>
  * can only provide one {@link Iterator}!
+ * <p>
+ * The {@link Formattable} methods consume the cursor as well, writing each
+ * record as it is fetched, without materialising a {@link Result} first. This
+ * allows for exporting large results with constant memory, e.g.
+ * <code><pre>
+ * try (Cursor&lt;?&gt; cursor = query.fetchLazy()) {
+ *     cursor.formatCSV(outputStream);
+ * }
+ * </pre></code>
+ * Only {@link TXTFormat#sampleRows()} records are read ahead to compute
+ * column widths when formatting text.
  *
  * @param <R> The cursor's record type
  * @author Lukas Eder
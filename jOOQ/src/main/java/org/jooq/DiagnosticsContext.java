@@ -172,4 +172,18 @@ public interface DiagnosticsContext {
      */
     @NotNull
     List<String> repeatedStatements();
+
+    /**
+     * The sampling weight of this event, i.e. the number of statements that
+     * this event stands for.
+     * <p>
+     * This is <code>1.0</code> if all statements are diagnosed. If
+     * {@link org.jooq.conf.Settings#getDiagnosticsSamplingInterval()} or
+     * {@link org.jooq.conf.Settings#getDiagnosticsSamplingCpuBudget()} are
+     * used to diagnose only a sample of statements, then this is the inverse
+     * of the probability with which this statement was chosen, so aggregating
+     * the weights of events produces unbiased estimates of their actual
+     * counts.
+     */
+    double samplingWeight();
 }
@@ -249,6 +249,9 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
      * container-managed transactions, or when
      * {@link Connection#getAutoCommit()} is set to true.
      * <p>
+     * All rows are inserted on a single connection, ignoring any
+     * {@link #parallelism(int)}.
+     * <p>
      * If you don't specify a COMMIT OPTION, {@link #commitNone()} will be the
      * default, leaving transaction handling up to you.
      */
@@ -341,4 +344,64 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Bulk-insert rows using the dialect's native bulk copy facility, if
+     * available.
+     * <p>
+     * In {@link SQLDialect#POSTGRES}, when the connection is a pgjdbc
+     * connection, rows are streamed to the server using
+     * <code>COPY .. FROM STDIN</code>, bypassing <code>INSERT</code>
+     * statements entirely. All rows are copied in a single <code>COPY</code>
+     * statement, unless {@link #bulkAfter(int)} is also set, in case of which
+     * the given number of rows are copied per statement. BATCH OPTIONS do not
+     * apply, and COMMIT OPTIONS apply to <code>COPY</code> statements the same
+     * way as to bulk statements. A failing <code>COPY</code> statement
+     * reports a single error for all of its rows.
+     * <p>
+     * In all other cases, the other BULK OPTIONS apply as if this option had
+     * not been set.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> bulkCopy();
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Insert rows using a given number of concurrent workers.
+     * <p>
+     * Rows are read, passed to {@link LoaderListenerStep#onRowStart(LoaderRowListener)}
+     * and converted to their target types on the calling thread. They are
+     * then inserted by workers running on the
+     * {@link Configuration#executorProvider()}, each one using its own
+     * connection acquired from {@link Configuration#connectionProvider()}. The
+     * BULK, BATCH and COMMIT OPTIONS apply to each worker individually. Rows
+     * may be inserted in a different order than they are read.
+     * <p>
+     * {@link LoaderListenerStep#onRowEnd(LoaderRowListener)} is invoked by the
+     * workers, one at a time, once they've processed a row, with a
+     * {@link LoaderContext} whose counts are those of the invoking worker.
+     * <p>
+     * The connection provider must provide distinct connections that are not
+     * part of a transaction of the calling thread, such as a
+     * {@link org.jooq.impl.DataSourceConnectionProvider} outside of any
+     * transaction. Rows are inserted on a single connection on the calling
+     * thread instead if the connection provider can only provide a single
+     * connection, e.g. when a {@link Connection} was passed to
+     * {@link org.jooq.impl.DSL#using(Connection)} or within a
+     * {@link org.jooq.impl.ThreadLocalTransactionProvider} transaction, if it
+     * provides the same connection several times, or if {@link #commitAll()}
+     * is used.
+     * <p>
+     * If you don't specify a parallelism, <code>1</code> will be the default,
+     * inserting all rows on the calling thread.
+     *
+     * @param number The number of concurrent workers.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
 }
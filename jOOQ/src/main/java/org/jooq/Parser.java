@@ -37,6 +37,9 @@
  */
 package org.jooq;
 
+import java.io.Reader;
+import java.util.stream.Stream;
+
 import org.jooq.impl.ParserException;
 
 import org.jetbrains.annotations.NotNull;
@@ -72,6 +75,29 @@ public interface Parser {
     @PlainSQL
     Queries parse(String sql, Object... bindings) throws ParserException;
 
+    /**
+     * Parse a SQL script from a {@link Reader} to a lazy stream of queries.
+     * <p>
+     * The script is read and parsed incrementally, such that only the queries
+     * that haven't been consumed from the stream yet are buffered. A query
+     * becomes available as soon as its delimiter has been read, making this
+     * suitable for large scripts, such as database dumps. Queries that aren't
+     * followed by a delimiter are made available only once the end of the
+     * script has been read.
+     * <p>
+     * The {@link Reader} is not closed by this method.
+     *
+     * @param reader The SQL script
+     * @throws ParserException If the SQL script could not be parsed. This
+     *             exception is thrown when consuming the stream.
+     * @throws org.jooq.exception.IOException If the SQL script could not be
+     *             read. This exception is thrown when consuming the stream.
+     */
+    @NotNull
+    @Support
+    @PlainSQL
+    Stream<Query> parseStream(Reader reader) throws ParserException;
+
     /**
      * Parse a SQL string to a query.
      *
@@ -61,6 +61,7 @@ public final class TXTFormat {
     final boolean                 verticalTableBorder;
     final boolean                 verticalCellBorder;
     final boolean                 intersectLines;
+    final int                     sampleRows;
 
     public TXTFormat() {
         this(
@@ -72,7 +73,8 @@ public final class TXTFormat {
             false,
             true,
             true,
-            true
+            true,
+            50
         );
     }
 
@@ -85,7 +87,8 @@ public final class TXTFormat {
         boolean horizontalCellBorder,
         boolean verticalTableBorder,
         boolean verticalCellBorder,
-        boolean intersectLines
+        boolean intersectLines,
+        int sampleRows
     ) {
         this.maxRows = maxRows;
         this.minColWidth = minColWidth;
@@ -96,6 +99,7 @@ public final class TXTFormat {
         this.verticalTableBorder = verticalTableBorder;
         this.verticalCellBorder = verticalCellBorder;
         this.intersectLines = intersectLines;
+        this.sampleRows = sampleRows;
     }
 
     /**
@@ -112,7 +116,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -137,7 +142,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -162,7 +168,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -188,7 +195,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -215,7 +223,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -242,7 +251,8 @@ public final class TXTFormat {
             newHorizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -269,7 +279,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             newVerticalTableBorder,
             verticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -296,7 +307,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             newVerticalCellBorder,
-            intersectLines
+            intersectLines,
+            sampleRows
         );
     }
 
@@ -323,7 +335,8 @@ public final class TXTFormat {
             horizontalCellBorder,
             verticalTableBorder,
             verticalCellBorder,
-            newIntersectLines
+            newIntersectLines,
+            sampleRows
         );
     }
 
@@ -334,4 +347,37 @@ public final class TXTFormat {
     public boolean intersectLines() {
         return intersectLines;
     }
+
+    /**
+     * The number of rows that are read ahead to compute column widths and
+     * decimal places, defaulting to 50.
+     * <p>
+     * Only these rows are buffered when formatting a {@link Cursor}, all
+     * other rows are written as they are fetched. Longer values of subsequent
+     * rows are abbreviated to the computed width. Use
+     * {@link Integer#MAX_VALUE} to compute widths from all rows.
+     */
+    @NotNull
+    public TXTFormat sampleRows(int newSampleRows) {
+        return new TXTFormat(
+            maxRows,
+            minColWidth,
+            maxColWidth,
+            horizontalTableBorder,
+            horizontalHeaderBorder,
+            horizontalCellBorder,
+            verticalTableBorder,
+            verticalCellBorder,
+            intersectLines,
+            newSampleRows
+        );
+    }
+
+    /**
+     * The number of rows that are read ahead to compute column widths and
+     * decimal places, defaulting to 50.
+     */
+    public int sampleRows() {
+        return sampleRows;
+    }
 }
@@ -112,6 +112,8 @@ public class Settings
     @XmlSchemaType(name = "string")
     protected FetchIntermediateResult fetchIntermediateResult = FetchIntermediateResult.WHEN_RESULT_REQUESTED;
     @XmlElement(defaultValue = "false")
+    protected Boolean fetchColumnarResults = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean transformAnsiJoinToTableLists = false;
     @XmlElement(defaultValue = "WHEN_NEEDED")
     @XmlSchemaType(name = "string")
@@ -232,8 +234,20 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer fetchPrefetchSize = 0;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "false")
+    protected Boolean batchSizeAdaptive = false;
+    @XmlElement(defaultValue = "0")
+    protected Integer batchFlushInterval = 0;
+    @XmlElement(defaultValue = "0")
+    protected Integer batchMaxInFlight = 0;
+    @XmlElement(defaultValue = "1000")
+    protected Integer batchStreamSize = 1000;
+    @XmlElement(defaultValue = "false")
+    protected Boolean batchRecordsPreserveReferentialOrder = false;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -268,6 +282,20 @@ public class Settings
     protected Boolean metaIncludeSystemIndexes = false;
     @XmlElement(defaultValue = "false")
     protected Boolean metaIncludeSystemSequences = false;
+    @XmlElement(defaultValue = "50000")
+    protected Integer diagnosticsDuplicateStatementsLRUCacheSize = 50000;
+    @XmlElement(defaultValue = "500")
+    protected Integer diagnosticsRepeatedStatementsLRUCacheSize = 500;
+    @XmlElement(defaultValue = "500")
+    protected Integer diagnosticsMaxStatementsPerNormalisedStatement = 500;
+    @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsAsync = false;
+    @XmlElement(defaultValue = "10000")
+    protected Integer diagnosticsAsyncQueueSize = 10000;
+    @XmlElement(defaultValue = "1")
+    protected Integer diagnosticsSamplingInterval = 1;
+    @XmlElement(defaultValue = "0")
+    protected Integer diagnosticsSamplingCpuBudget = 0;
     @XmlElement(defaultValue = "false")
     protected Boolean migrationAllowsUndo = false;
     @XmlElement(defaultValue = "false")
@@ -318,6 +346,8 @@ public class Settings
     protected String parseIgnoreCommentStop = "[jooq ignore stop]";
     @XmlElement(defaultValue = "true")
     protected Boolean parseMetaDefaultExpressions = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean parseParallel = false;
     @XmlElement(defaultValue = "true")
     protected Boolean applyWorkaroundFor7962 = true;
     @XmlElementWrapper(name = "interpreterSearchPath")
@@ -1093,6 +1123,30 @@ public class Settings
         this.fetchIntermediateResult = value;
     }
 
+    /**
+     * Whether eagerly fetched results should be stored column by column in primitive arrays, rather than as a list of records. Such results produce a new record each time a record is accessed, which does not write through to the result, until the result itself is modified, e.g. by sorting it, when its records are materialised in a list.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchColumnarResults() {
+        return fetchColumnarResults;
+    }
+
+    /**
+     * Sets the value of the fetchColumnarResults property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchColumnarResults(Boolean value) {
+        this.fetchColumnarResults = value;
+    }
+
     /**
      * Transform ANSI join to table lists if possible.
      * <p>
@@ -2187,6 +2241,22 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * The number of records that a Cursor reads ahead from the JDBC ResultSet on a background thread obtained from Configuration.executorProvider(), while the consumer processes previous records. ExecuteListener record and fetch end events are then invoked on that background thread, which also closes the Cursor once all records have been fetched. If the executor rejects the background task or runs it on the calling thread, records are fetched without prefetching. 0 turns off prefetching.
+     * 
+     */
+    public Integer getFetchPrefetchSize() {
+        return fetchPrefetchSize;
+    }
+
+    /**
+     * The number of records that a Cursor reads ahead from the JDBC ResultSet on a background thread obtained from Configuration.executorProvider(), while the consumer processes previous records. ExecuteListener record and fetch end events are then invoked on that background thread, which also closes the Cursor once all records have been fetched. If the executor rejects the background task or runs it on the calling thread, records are fetched without prefetching. 0 turns off prefetching.
+     * 
+     */
+    public void setFetchPrefetchSize(Integer value) {
+        this.fetchPrefetchSize = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -2203,6 +2273,102 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * Whether automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances adapt their batch size to the observed <code>executeBatch()</code> throughput, up to {@link #batchSize}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isBatchSizeAdaptive() {
+        return batchSizeAdaptive;
+    }
+
+    /**
+     * Sets the value of the batchSizeAdaptive property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setBatchSizeAdaptive(Boolean value) {
+        this.batchSizeAdaptive = value;
+    }
+
+    /**
+     * The number of milliseconds after which automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute a batch when another statement is added to it, regardless of the batch size, and after which batches bound to a {@link org.reactivestreams.Publisher} execute their pending sub-batch, regardless of {@link #batchStreamSize}. <code>0</code> means there is no time threshold.
+     * 
+     */
+    public Integer getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    /**
+     * The number of milliseconds after which automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute a batch when another statement is added to it, regardless of the batch size, and after which batches bound to a {@link org.reactivestreams.Publisher} execute their pending sub-batch, regardless of {@link #batchStreamSize}. <code>0</code> means there is no time threshold.
+     * 
+     */
+    public void setBatchFlushInterval(Integer value) {
+        this.batchFlushInterval = value;
+    }
+
+    /**
+     * The maximum number of batches that automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute asynchronously on the {@link org.jooq.Configuration#executorProvider()}, while the calling thread keeps adding statements to the next batch, as well as the maximum number of sub-batches that batches bound to a {@link org.reactivestreams.Publisher} keep in flight on an R2DBC connection. <code>0</code> means batches are executed synchronously.
+     * 
+     */
+    public Integer getBatchMaxInFlight() {
+        return batchMaxInFlight;
+    }
+
+    /**
+     * The maximum number of batches that automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute asynchronously on the {@link org.jooq.Configuration#executorProvider()}, while the calling thread keeps adding statements to the next batch, as well as the maximum number of sub-batches that batches bound to a {@link org.reactivestreams.Publisher} keep in flight on an R2DBC connection. <code>0</code> means batches are executed synchronously.
+     * 
+     */
+    public void setBatchMaxInFlight(Integer value) {
+        this.batchMaxInFlight = value;
+    }
+
+    /**
+     * The number of bind value rows of a batch bound to a {@link org.reactivestreams.Publisher} that are executed together as one sub-batch.
+     * 
+     */
+    public Integer getBatchStreamSize() {
+        return batchStreamSize;
+    }
+
+    /**
+     * The number of bind value rows of a batch bound to a {@link org.reactivestreams.Publisher} that are executed together as one sub-batch.
+     * 
+     */
+    public void setBatchStreamSize(Integer value) {
+        this.batchStreamSize = value;
+    }
+
+    /**
+     * Whether batch operations on records, such as {@link org.jooq.DSLContext#batchStore(org.jooq.UpdatableRecord...)}, should only group statements with identical SQL into the same batch if this doesn't reorder statements on tables related by foreign keys, according to {@link org.jooq.Table#getReferences()}. By default, all statements with identical SQL are grouped into the same batch, in the order of their first occurrence.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isBatchRecordsPreserveReferentialOrder() {
+        return batchRecordsPreserveReferentialOrder;
+    }
+
+    /**
+     * Sets the value of the batchRecordsPreserveReferentialOrder property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setBatchRecordsPreserveReferentialOrder(Boolean value) {
+        this.batchRecordsPreserveReferentialOrder = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -2475,6 +2641,126 @@ public class Settings
         this.metaIncludeSystemSequences = value;
     }
 
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks to detect duplicate statements. This index is shared by all diagnostics connections of a {@link org.jooq.Configuration}.
+     * 
+     */
+    public Integer getDiagnosticsDuplicateStatementsLRUCacheSize() {
+        return diagnosticsDuplicateStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks to detect duplicate statements. This index is shared by all diagnostics connections of a {@link org.jooq.Configuration}.
+     * 
+     */
+    public void setDiagnosticsDuplicateStatementsLRUCacheSize(Integer value) {
+        this.diagnosticsDuplicateStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per diagnostics connection to detect repeated statements.
+     * 
+     */
+    public Integer getDiagnosticsRepeatedStatementsLRUCacheSize() {
+        return diagnosticsRepeatedStatementsLRUCacheSize;
+    }
+
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per diagnostics connection to detect repeated statements.
+     * 
+     */
+    public void setDiagnosticsRepeatedStatementsLRUCacheSize(Integer value) {
+        this.diagnosticsRepeatedStatementsLRUCacheSize = value;
+    }
+
+    /**
+     * The maximum number of distinct actual statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per normalised statement.
+     * 
+     */
+    public Integer getDiagnosticsMaxStatementsPerNormalisedStatement() {
+        return diagnosticsMaxStatementsPerNormalisedStatement;
+    }
+
+    /**
+     * The maximum number of distinct actual statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per normalised statement.
+     * 
+     */
+    public void setDiagnosticsMaxStatementsPerNormalisedStatement(Integer value) {
+        this.diagnosticsMaxStatementsPerNormalisedStatement = value;
+    }
+
+    /**
+     * Whether the {@link org.jooq.DiagnosticsListener} SPI should normalise and compare statements asynchronously on a background thread, rather than on the thread that prepares the statement. Diagnostics events about duplicate and repeated statements are then also fired on the background thread.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsAsync() {
+        return diagnosticsAsync;
+    }
+
+    /**
+     * Sets the value of the diagnosticsAsync property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsAsync(Boolean value) {
+        this.diagnosticsAsync = value;
+    }
+
+    /**
+     * The maximum number of statements per {@link org.jooq.Configuration} that may be queued for asynchronous diagnostics. Further statements of that configuration are not diagnosed until its queue drains.
+     * 
+     */
+    public Integer getDiagnosticsAsyncQueueSize() {
+        return diagnosticsAsyncQueueSize;
+    }
+
+    /**
+     * The maximum number of statements per {@link org.jooq.Configuration} that may be queued for asynchronous diagnostics. Further statements of that configuration are not diagnosed until its queue drains.
+     * 
+     */
+    public void setDiagnosticsAsyncQueueSize(Integer value) {
+        this.diagnosticsAsyncQueueSize = value;
+    }
+
+    /**
+     * Diagnose only one in N statements on average, chosen at random. Events carry the sampling weight, see DiagnosticsContext.samplingWeight().
+     * 
+     */
+    public Integer getDiagnosticsSamplingInterval() {
+        return diagnosticsSamplingInterval;
+    }
+
+    /**
+     * Diagnose only one in N statements on average, chosen at random. Events carry the sampling weight, see DiagnosticsContext.samplingWeight().
+     * 
+     */
+    public void setDiagnosticsSamplingInterval(Integer value) {
+        this.diagnosticsSamplingInterval = value;
+    }
+
+    /**
+     * The percentage of available CPU time that diagnostics may use, after which the sampling rate is adapted. 0 turns off adaptive sampling.
+     * 
+     */
+    public Integer getDiagnosticsSamplingCpuBudget() {
+        return diagnosticsSamplingCpuBudget;
+    }
+
+    /**
+     * The percentage of available CPU time that diagnostics may use, after which the sampling rate is adapted. 0 turns off adaptive sampling.
+     * 
+     */
+    public void setDiagnosticsSamplingCpuBudget(Integer value) {
+        this.diagnosticsSamplingCpuBudget = value;
+    }
+
     /**
      * Whether migrations are allowed to be executed in inverse order.<p><strong>This is a potentially destructive feature, which should not be turned on in production</strong>. It is useful mostly to quickly switch between branches in a development environment. This feature is available only in commercial distributions.
      * 
@@ -2905,6 +3191,30 @@ public class Settings
         this.parseMetaDefaultExpressions = value;
     }
 
+    /**
+     * Whether the parser should parse large scripts of several queries in parallel, after splitting them heuristically at top level query delimiters. If any part fails to parse, or if the script contains positional bind markers, the script is parsed sequentially.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isParseParallel() {
+        return parseParallel;
+    }
+
+    /**
+     * Sets the value of the parseParallel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setParseParallel(Boolean value) {
+        this.parseParallel = value;
+    }
+
     /**
      * [#7963] Apply workaround for ORA-04043 when inserting into Oracle tables with qualified, quoted identifiers, and fetching generated keys
      * 
@@ -3235,6 +3545,11 @@ public class Settings
         return this;
     }
 
+    public Settings withFetchColumnarResults(Boolean value) {
+        setFetchColumnarResults(value);
+        return this;
+    }
+
     public Settings withTransformAnsiJoinToTableLists(Boolean value) {
         setTransformAnsiJoinToTableLists(value);
         return this;
@@ -3633,6 +3948,15 @@ public class Settings
         return this;
     }
 
+    /**
+     * The number of records that a Cursor reads ahead from the JDBC ResultSet on a background thread obtained from Configuration.executorProvider(), while the consumer processes previous records. ExecuteListener record and fetch end events are then invoked on that background thread, which also closes the Cursor once all records have been fetched. If the executor rejects the background task or runs it on the calling thread, records are fetched without prefetching. 0 turns off prefetching.
+     * 
+     */
+    public Settings withFetchPrefetchSize(Integer value) {
+        setFetchPrefetchSize(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -3642,6 +3966,43 @@ public class Settings
         return this;
     }
 
+    public Settings withBatchSizeAdaptive(Boolean value) {
+        setBatchSizeAdaptive(value);
+        return this;
+    }
+
+    /**
+     * The number of milliseconds after which automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute a batch when another statement is added to it, regardless of the batch size, and after which batches bound to a {@link org.reactivestreams.Publisher} execute their pending sub-batch, regardless of {@link #batchStreamSize}. <code>0</code> means there is no time threshold.
+     * 
+     */
+    public Settings withBatchFlushInterval(Integer value) {
+        setBatchFlushInterval(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of batches that automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances execute asynchronously on the {@link org.jooq.Configuration#executorProvider()}, while the calling thread keeps adding statements to the next batch, as well as the maximum number of sub-batches that batches bound to a {@link org.reactivestreams.Publisher} keep in flight on an R2DBC connection. <code>0</code> means batches are executed synchronously.
+     * 
+     */
+    public Settings withBatchMaxInFlight(Integer value) {
+        setBatchMaxInFlight(value);
+        return this;
+    }
+
+    /**
+     * The number of bind value rows of a batch bound to a {@link org.reactivestreams.Publisher} that are executed together as one sub-batch.
+     * 
+     */
+    public Settings withBatchStreamSize(Integer value) {
+        setBatchStreamSize(value);
+        return this;
+    }
+
+    public Settings withBatchRecordsPreserveReferentialOrder(Boolean value) {
+        setBatchRecordsPreserveReferentialOrder(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -3744,6 +4105,65 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks to detect duplicate statements. This index is shared by all diagnostics connections of a {@link org.jooq.Configuration}.
+     * 
+     */
+    public Settings withDiagnosticsDuplicateStatementsLRUCacheSize(Integer value) {
+        setDiagnosticsDuplicateStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of normalised statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per diagnostics connection to detect repeated statements.
+     * 
+     */
+    public Settings withDiagnosticsRepeatedStatementsLRUCacheSize(Integer value) {
+        setDiagnosticsRepeatedStatementsLRUCacheSize(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of distinct actual statements that the {@link org.jooq.DiagnosticsListener} SPI tracks per normalised statement.
+     * 
+     */
+    public Settings withDiagnosticsMaxStatementsPerNormalisedStatement(Integer value) {
+        setDiagnosticsMaxStatementsPerNormalisedStatement(value);
+        return this;
+    }
+
+    public Settings withDiagnosticsAsync(Boolean value) {
+        setDiagnosticsAsync(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of statements per {@link org.jooq.Configuration} that may be queued for asynchronous diagnostics. Further statements of that configuration are not diagnosed until its queue drains.
+     * 
+     */
+    public Settings withDiagnosticsAsyncQueueSize(Integer value) {
+        setDiagnosticsAsyncQueueSize(value);
+        return this;
+    }
+
+    /**
+     * Diagnose only one in N statements on average, chosen at random. Events carry the sampling weight, see DiagnosticsContext.samplingWeight().
+     * 
+     */
+    public Settings withDiagnosticsSamplingInterval(Integer value) {
+        setDiagnosticsSamplingInterval(value);
+        return this;
+    }
+
+    /**
+     * The percentage of available CPU time that diagnostics may use, after which the sampling rate is adapted. 0 turns off adaptive sampling.
+     * 
+     */
+    public Settings withDiagnosticsSamplingCpuBudget(Integer value) {
+        setDiagnosticsSamplingCpuBudget(value);
+        return this;
+    }
+
     public Settings withMigrationAllowsUndo(Boolean value) {
         setMigrationAllowsUndo(value);
         return this;
@@ -3916,6 +4336,11 @@ public class Settings
         return this;
     }
 
+    public Settings withParseParallel(Boolean value) {
+        setParseParallel(value);
+        return this;
+    }
+
     public Settings withApplyWorkaroundFor7962(Boolean value) {
         setApplyWorkaroundFor7962(value);
         return this;
@@ -4017,6 +4442,7 @@ public class Settings
         builder.append("bindOffsetTimeType", bindOffsetTimeType);
         builder.append("fetchTriggerValuesAfterSQLServerOutput", fetchTriggerValuesAfterSQLServerOutput);
         builder.append("fetchIntermediateResult", fetchIntermediateResult);
+        builder.append("fetchColumnarResults", fetchColumnarResults);
         builder.append("transformAnsiJoinToTableLists", transformAnsiJoinToTableLists);
         builder.append("transformInConditionSubqueryWithLimitToDerivedTable", transformInConditionSubqueryWithLimitToDerivedTable);
         builder.append("transformQualify", transformQualify);
@@ -4067,7 +4493,13 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchPrefetchSize", fetchPrefetchSize);
         builder.append("batchSize", batchSize);
+        builder.append("batchSizeAdaptive", batchSizeAdaptive);
+        builder.append("batchFlushInterval", batchFlushInterval);
+        builder.append("batchMaxInFlight", batchMaxInFlight);
+        builder.append("batchStreamSize", batchStreamSize);
+        builder.append("batchRecordsPreserveReferentialOrder", batchRecordsPreserveReferentialOrder);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -4082,6 +4514,13 @@ public class Settings
         builder.append("interpreterDelayForeignKeyDeclarations", interpreterDelayForeignKeyDeclarations);
         builder.append("metaIncludeSystemIndexes", metaIncludeSystemIndexes);
         builder.append("metaIncludeSystemSequences", metaIncludeSystemSequences);
+        builder.append("diagnosticsDuplicateStatementsLRUCacheSize", diagnosticsDuplicateStatementsLRUCacheSize);
+        builder.append("diagnosticsRepeatedStatementsLRUCacheSize", diagnosticsRepeatedStatementsLRUCacheSize);
+        builder.append("diagnosticsMaxStatementsPerNormalisedStatement", diagnosticsMaxStatementsPerNormalisedStatement);
+        builder.append("diagnosticsAsync", diagnosticsAsync);
+        builder.append("diagnosticsAsyncQueueSize", diagnosticsAsyncQueueSize);
+        builder.append("diagnosticsSamplingInterval", diagnosticsSamplingInterval);
+        builder.append("diagnosticsSamplingCpuBudget", diagnosticsSamplingCpuBudget);
         builder.append("migrationAllowsUndo", migrationAllowsUndo);
         builder.append("migrationRevertUntracked", migrationRevertUntracked);
         builder.append("migrationAutoBaseline", migrationAutoBaseline);
@@ -4103,6 +4542,7 @@ public class Settings
         builder.append("parseIgnoreCommentStart", parseIgnoreCommentStart);
         builder.append("parseIgnoreCommentStop", parseIgnoreCommentStop);
         builder.append("parseMetaDefaultExpressions", parseMetaDefaultExpressions);
+        builder.append("parseParallel", parseParallel);
         builder.append("applyWorkaroundFor7962", applyWorkaroundFor7962);
         builder.append("interpreterSearchPath", "schema", interpreterSearchPath);
         builder.append("migrationSchemata", "schema", migrationSchemata);
@@ -4407,6 +4847,15 @@ public class Settings
                 return false;
             }
         }
+        if (fetchColumnarResults == null) {
+            if (other.fetchColumnarResults!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchColumnarResults.equals(other.fetchColumnarResults)) {
+                return false;
+            }
+        }
         if (transformAnsiJoinToTableLists == null) {
             if (other.transformAnsiJoinToTableLists!= null) {
                 return false;
@@ -4857,6 +5306,15 @@ public class Settings
                 return false;
             }
         }
+        if (fetchPrefetchSize == null) {
+            if (other.fetchPrefetchSize!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchPrefetchSize.equals(other.fetchPrefetchSize)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -4866,6 +5324,51 @@ public class Settings
                 return false;
             }
         }
+        if (batchSizeAdaptive == null) {
+            if (other.batchSizeAdaptive!= null) {
+                return false;
+            }
+        } else {
+            if (!batchSizeAdaptive.equals(other.batchSizeAdaptive)) {
+                return false;
+            }
+        }
+        if (batchFlushInterval == null) {
+            if (other.batchFlushInterval!= null) {
+                return false;
+            }
+        } else {
+            if (!batchFlushInterval.equals(other.batchFlushInterval)) {
+                return false;
+            }
+        }
+        if (batchMaxInFlight == null) {
+            if (other.batchMaxInFlight!= null) {
+                return false;
+            }
+        } else {
+            if (!batchMaxInFlight.equals(other.batchMaxInFlight)) {
+                return false;
+            }
+        }
+        if (batchStreamSize == null) {
+            if (other.batchStreamSize!= null) {
+                return false;
+            }
+        } else {
+            if (!batchStreamSize.equals(other.batchStreamSize)) {
+                return false;
+            }
+        }
+        if (batchRecordsPreserveReferentialOrder == null) {
+            if (other.batchRecordsPreserveReferentialOrder!= null) {
+                return false;
+            }
+        } else {
+            if (!batchRecordsPreserveReferentialOrder.equals(other.batchRecordsPreserveReferentialOrder)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -4992,6 +5495,69 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsDuplicateStatementsLRUCacheSize == null) {
+            if (other.diagnosticsDuplicateStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsDuplicateStatementsLRUCacheSize.equals(other.diagnosticsDuplicateStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsRepeatedStatementsLRUCacheSize == null) {
+            if (other.diagnosticsRepeatedStatementsLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsRepeatedStatementsLRUCacheSize.equals(other.diagnosticsRepeatedStatementsLRUCacheSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsMaxStatementsPerNormalisedStatement == null) {
+            if (other.diagnosticsMaxStatementsPerNormalisedStatement!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsMaxStatementsPerNormalisedStatement.equals(other.diagnosticsMaxStatementsPerNormalisedStatement)) {
+                return false;
+            }
+        }
+        if (diagnosticsAsync == null) {
+            if (other.diagnosticsAsync!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsync.equals(other.diagnosticsAsync)) {
+                return false;
+            }
+        }
+        if (diagnosticsAsyncQueueSize == null) {
+            if (other.diagnosticsAsyncQueueSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsyncQueueSize.equals(other.diagnosticsAsyncQueueSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsSamplingInterval == null) {
+            if (other.diagnosticsSamplingInterval!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSamplingInterval.equals(other.diagnosticsSamplingInterval)) {
+                return false;
+            }
+        }
+        if (diagnosticsSamplingCpuBudget == null) {
+            if (other.diagnosticsSamplingCpuBudget!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSamplingCpuBudget.equals(other.diagnosticsSamplingCpuBudget)) {
+                return false;
+            }
+        }
         if (migrationAllowsUndo == null) {
             if (other.migrationAllowsUndo!= null) {
                 return false;
@@ -5181,6 +5747,15 @@ public class Settings
                 return false;
             }
         }
+        if (parseParallel == null) {
+            if (other.parseParallel!= null) {
+                return false;
+            }
+        } else {
+            if (!parseParallel.equals(other.parseParallel)) {
+                return false;
+            }
+        }
         if (applyWorkaroundFor7962 == null) {
             if (other.applyWorkaroundFor7962 != null) {
                 return false;
@@ -5255,6 +5830,7 @@ public class Settings
         result = ((prime*result)+((bindOffsetTimeType == null)? 0 :bindOffsetTimeType.hashCode()));
         result = ((prime*result)+((fetchTriggerValuesAfterSQLServerOutput == null)? 0 :fetchTriggerValuesAfterSQLServerOutput.hashCode()));
         result = ((prime*result)+((fetchIntermediateResult == null)? 0 :fetchIntermediateResult.hashCode()));
+        result = ((prime*result)+((fetchColumnarResults == null)? 0 :fetchColumnarResults.hashCode()));
         result = ((prime*result)+((transformAnsiJoinToTableLists == null)? 0 :transformAnsiJoinToTableLists.hashCode()));
         result = ((prime*result)+((transformInConditionSubqueryWithLimitToDerivedTable == null)? 0 :transformInConditionSubqueryWithLimitToDerivedTable.hashCode()));
         result = ((prime*result)+((transformQualify == null)? 0 :transformQualify.hashCode()));
@@ -5305,7 +5881,13 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchPrefetchSize == null)? 0 :fetchPrefetchSize.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((batchSizeAdaptive == null)? 0 :batchSizeAdaptive.hashCode()));
+        result = ((prime*result)+((batchFlushInterval == null)? 0 :batchFlushInterval.hashCode()));
+        result = ((prime*result)+((batchMaxInFlight == null)? 0 :batchMaxInFlight.hashCode()));
+        result = ((prime*result)+((batchStreamSize == null)? 0 :batchStreamSize.hashCode()));
+        result = ((prime*result)+((batchRecordsPreserveReferentialOrder == null)? 0 :batchRecordsPreserveReferentialOrder.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
@@ -5320,6 +5902,13 @@ public class Settings
         result = ((prime*result)+((interpreterDelayForeignKeyDeclarations == null)? 0 :interpreterDelayForeignKeyDeclarations.hashCode()));
         result = ((prime*result)+((metaIncludeSystemIndexes == null)? 0 :metaIncludeSystemIndexes.hashCode()));
         result = ((prime*result)+((metaIncludeSystemSequences == null)? 0 :metaIncludeSystemSequences.hashCode()));
+        result = ((prime*result)+((diagnosticsDuplicateStatementsLRUCacheSize == null)? 0 :diagnosticsDuplicateStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((diagnosticsRepeatedStatementsLRUCacheSize == null)? 0 :diagnosticsRepeatedStatementsLRUCacheSize.hashCode()));
+        result = ((prime*result)+((diagnosticsMaxStatementsPerNormalisedStatement == null)? 0 :diagnosticsMaxStatementsPerNormalisedStatement.hashCode()));
+        result = ((prime*result)+((diagnosticsAsync == null)? 0 :diagnosticsAsync.hashCode()));
+        result = ((prime*result)+((diagnosticsAsyncQueueSize == null)? 0 :diagnosticsAsyncQueueSize.hashCode()));
+        result = ((prime*result)+((diagnosticsSamplingInterval == null)? 0 :diagnosticsSamplingInterval.hashCode()));
+        result = ((prime*result)+((diagnosticsSamplingCpuBudget == null)? 0 :diagnosticsSamplingCpuBudget.hashCode()));
         result = ((prime*result)+((migrationAllowsUndo == null)? 0 :migrationAllowsUndo.hashCode()));
         result = ((prime*result)+((migrationRevertUntracked == null)? 0 :migrationRevertUntracked.hashCode()));
         result = ((prime*result)+((migrationAutoBaseline == null)? 0 :migrationAutoBaseline.hashCode()));
@@ -5341,6 +5930,7 @@ public class Settings
         result = ((prime*result)+((parseIgnoreCommentStart == null)? 0 :parseIgnoreCommentStart.hashCode()));
         result = ((prime*result)+((parseIgnoreCommentStop == null)? 0 :parseIgnoreCommentStop.hashCode()));
         result = ((prime*result)+((parseMetaDefaultExpressions == null)? 0 :parseMetaDefaultExpressions.hashCode()));
+        result = ((prime*result)+((parseParallel == null)? 0 :parseParallel.hashCode()));
         result = ((prime*result)+((applyWorkaroundFor7962 == null)? 0 :applyWorkaroundFor7962 .hashCode()));
         result = ((prime*result)+((interpreterSearchPath == null)? 0 :interpreterSearchPath.hashCode()));
         result = ((prime*result)+((migrationSchemata == null)? 0 :migrationSchemata.hashCode()));
@@ -39,8 +39,11 @@ package org.jooq.impl;
 
 import static org.jooq.impl.Tools.combine;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 import org.jooq.DiagnosticsListener;
 import org.jooq.DiagnosticsListenerProvider;
@@ -292,6 +295,22 @@ public abstract class AbstractConfiguration implements Configuration {
 
 
 
+
+    @Override
+    public final Map<CacheType, CacheStatistics> cacheStatistics() {
+        Map<CacheType, CacheStatistics> result = new EnumMap<>(CacheType.class);
+
+        for (CacheType type : CacheType.values()) {
+            Object ctx = data(type);
+
+            result.put(type, ctx instanceof CacheStatistics
+                ? new DefaultCacheStatistics((CacheStatistics) ctx)
+                : new DefaultCacheStatistics(type)
+            );
+        }
+
+        return result;
+    }
 
     @Override
     public boolean commercial(Supplier<String> logMessage) {
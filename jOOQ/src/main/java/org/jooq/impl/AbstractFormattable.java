@@ -37,11 +37,13 @@
  */
 package org.jooq.impl;
 
+import java.io.BufferedWriter;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.jooq.Attachable;
 import org.jooq.CSVFormat;
@@ -53,6 +55,7 @@ import org.jooq.JSONFormat;
 import org.jooq.TXTFormat;
 import org.jooq.Table;
 import org.jooq.XMLFormat;
+import org.jooq.exception.IOException;
 
 import org.w3c.dom.Document;
 import org.xml.sax.ContentHandler;
@@ -120,17 +123,17 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void format(OutputStream stream) {
-        format(new OutputStreamWriter(stream));
+        write(stream, w -> format(w));
     }
 
     @Override
     public final void format(OutputStream stream, int maxRecords) {
-        format(new OutputStreamWriter(stream), maxRecords);
+        write(stream, w -> format(w, maxRecords));
     }
 
     @Override
     public final void format(OutputStream stream, TXTFormat format) {
-        format(new OutputStreamWriter(stream), format);
+        write(stream, w -> format(w, format));
     }
 
     @Override
@@ -182,12 +185,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatCSV(OutputStream stream) {
-        formatCSV(new OutputStreamWriter(stream));
+        write(stream, w -> formatCSV(w));
     }
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header) {
-        formatCSV(new OutputStreamWriter(stream), header);
+        write(stream, w -> formatCSV(w, header));
     }
 
     @Override
@@ -197,22 +200,22 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header, char delimiter) {
-        formatCSV(new OutputStreamWriter(stream), header, delimiter);
+        write(stream, w -> formatCSV(w, header, delimiter));
     }
 
     @Override
     public final void formatCSV(OutputStream stream, char delimiter, String nullString) {
-        formatCSV(new OutputStreamWriter(stream), delimiter, nullString);
+        write(stream, w -> formatCSV(w, delimiter, nullString));
     }
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header, char delimiter, String nullString) {
-        formatCSV(new OutputStreamWriter(stream), header, delimiter, nullString);
+        write(stream, w -> formatCSV(w, header, delimiter, nullString));
     }
 
     @Override
     public final void formatCSV(OutputStream stream, CSVFormat format) {
-        formatCSV(new OutputStreamWriter(stream), format);
+        write(stream, w -> formatCSV(w, format));
     }
 
     @Override
@@ -263,12 +266,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatJSON(OutputStream stream) {
-        formatJSON(new OutputStreamWriter(stream));
+        write(stream, w -> formatJSON(w));
     }
 
     @Override
     public final void formatJSON(OutputStream stream, JSONFormat format) {
-        formatJSON(new OutputStreamWriter(stream), format);
+        write(stream, w -> formatJSON(w, format));
     }
 
     @Override
@@ -297,7 +300,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatXML(OutputStream stream, XMLFormat format) {
-        formatXML(new OutputStreamWriter(stream), format);
+        write(stream, w -> formatXML(w, format));
     }
 
     @Override
@@ -321,12 +324,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatChart(OutputStream stream) {
-        formatChart(new OutputStreamWriter(stream));
+        write(stream, w -> formatChart(w));
     }
 
     @Override
     public final void formatChart(OutputStream stream, ChartFormat format) {
-        formatChart(new OutputStreamWriter(stream), format);
+        write(stream, w -> formatChart(w, format));
     }
 
     @Override
@@ -343,7 +346,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatInsert(OutputStream stream) {
-        formatInsert(new OutputStreamWriter(stream));
+        write(stream, w -> formatInsert(w));
     }
 
     @Override
@@ -355,7 +358,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatInsert(OutputStream stream, Table<?> table, Field<?>... f) {
-        formatInsert(new OutputStreamWriter(stream), table, f);
+        write(stream, w -> formatInsert(w, table, f));
     }
 
     @Override
@@ -367,7 +370,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatHTML(OutputStream stream) {
-        formatHTML(new OutputStreamWriter(stream));
+        write(stream, w -> formatHTML(w));
     }
 
     @Override
@@ -379,4 +382,21 @@ abstract class AbstractFormattable implements Formattable, Attachable {
     public final <H extends ContentHandler> H intoXML(H handler) throws SAXException {
         return intoXML(handler, defaultXMLFormat());
     }
+
+    /**
+     * Write formatted content to an {@link OutputStream} through a buffered
+     * {@link Writer}, such that it is encoded and written to the stream in
+     * chunks, rather than value by value.
+     */
+    private static final void write(OutputStream stream, Consumer<? super Writer> consumer) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(stream));
+        consumer.accept(writer);
+
+        try {
+            writer.flush();
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while writing to stream", e);
+        }
+    }
 }
@@ -128,6 +128,17 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
 
     abstract List<Catalog> getCatalogs0();
 
+    /**
+     * Whether this meta's objects can be read from several threads
+     * concurrently, once they have been initialised by a single thread.
+     * <p>
+     * This is the case for metas that are held in memory, but not for metas
+     * that look up objects lazily from a database.
+     */
+    boolean concurrentReads() {
+        return true;
+    }
+
     @Override
     public final List<Schema> getSchemas(String name) {
         return getSchemas(name(name));
@@ -565,7 +576,7 @@ abstract class AbstractMeta extends AbstractScope implements Meta, Serializable
     }
 
     @Override
-    public final Meta apply(Queries migration) {
+    public /* non-final */ Meta apply(Queries migration) {
         return dsl().meta(ddl().concat(migration).queries());
     }
 
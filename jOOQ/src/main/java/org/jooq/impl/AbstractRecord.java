@@ -119,8 +119,18 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
-    final BitSet                                changed;
+
+    /**
+     * The original values are shared with {@link #values} until the
+     * two diverge, see {@link #originals()}.
+     */
+    Object[]                                    originals;
+
+    /**
+     * The changed flags are allocated only once a flag is set, see
+     * {@link #changed0()}.
+     */
+    BitSet                                      changed;
     boolean                                     fetched;
 
     /**
@@ -144,8 +154,38 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+        this.originals = values;
+    }
+
+    /**
+     * The original values, which must be called before writing values to
+     * {@link #values} that are different from their originals.
+     * <p>
+     * Records that are only read, e.g. most fetched records, never need a copy
+     * of their values.
+     */
+    final Object[] originals() {
+        if (originals == values)
+            originals = values.clone();
+
+        return originals;
+    }
+
+    /**
+     * The changed flags, allocated if needed.
+     */
+    final BitSet changed0() {
+        if (changed == null)
+            changed = new BitSet(values.length);
+
+        return changed;
+    }
+
+    /**
+     * Whether the value at a given index has changed.
+     */
+    final boolean changed0(int index) {
+        return changed != null && changed.get(index);
     }
 
     // ------------------------------------------------------------------------
@@ -430,6 +470,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         // [#979] Avoid modifying chnaged flag on unchanged primary key values
 
         UniqueKey<?> key = getPrimaryKey();
+        BitSet changed = changed0();
+        Object[] originals = originals();
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
@@ -486,6 +528,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final void setValues(Field<?>[] fields, AbstractRecord record) {
         fetched = record.fetched;
+        Object[] originals = originals();
+        BitSet changed = changed0();
 
         for (Field<?> field : fields) {
             int targetIndex = indexOrFail(this.fields, field);
@@ -560,7 +604,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changed != null && !changed.isEmpty();
     }
 
     @Override
@@ -570,7 +614,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        return changed0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -585,13 +629,15 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
         if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+            changed = null;
+            originals = values;
         }
+        else
+            changed0().set(0, values.length);
     }
 
     @Override
@@ -603,7 +649,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        if (c)
+            changed0().set(fieldIndex);
+        else if (changed != null)
+            changed.clear(fieldIndex);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
@@ -623,9 +672,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        changed = null;
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != values) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = values;
+        }
     }
 
     @Override
@@ -637,7 +689,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
+        if (changed != null)
+            changed.clear(fieldIndex);
+
         values[fieldIndex] = originals[fieldIndex];
     }
 
@@ -868,9 +922,13 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
+                            t.originals()[targetIndex] = targetType.convert(originals[sourceIndex]);
                             t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+
+                            if (changed0(sourceIndex))
+                                t.changed0().set(targetIndex);
+                            else if (t.changed != null)
+                                t.changed.clear(targetIndex);
                         }
                     }
                 }
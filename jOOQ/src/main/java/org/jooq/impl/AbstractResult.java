@@ -134,6 +134,14 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         return fields;
     }
 
+    /**
+     * The columnar storage of this result, or <code>null</code> if this result
+     * is not stored column by column.
+     */
+    ColumnarRecords<R> columnar() {
+        return null;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Formattable API
     // -------------------------------------------------------------------------
@@ -148,7 +156,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             final int NUM_COL_MAX_WIDTH = format.maxColWidth() == Integer.MAX_VALUE ? Integer.MAX_VALUE : 2 * format.maxColWidth();
 
             // The max number of records that will be considered for formatting purposes
-            final int MAX_RECORDS = min(50, format.maxRows());
+            final int MAX_RECORDS = min(format.sampleRows(), format.maxRows());
             final Deque<R> buffer = new ArrayDeque<>();
             final Iterator<R> it = iterator();
 
@@ -384,7 +392,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 String sep1 = "";
                 for (Field<?> field : fields.fields.fields) {
                     writer.append(sep1);
-                    writer.append(formatCSV0(field.getName(), format));
+                    formatCSV0(field.getName(), format, writer);
 
                     sep1 = format.delimiter();
                 }
@@ -392,18 +400,40 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline());
             }
 
-            for (Record record : this) {
-                String sep2 = "";
+            // Columnar results are formatted without creating any records
+            ColumnarRecords<R> columnar = columnar();
 
+            if (columnar != null) {
+                int rows = columnar.size();
                 int size = fields.size();
-                for (int index = 0; index < size; index++) {
-                    writer.append(sep2);
-                    writer.append(formatCSV0(record.getValue(index), format));
 
-                    sep2 = format.delimiter();
+                for (int row = 0; row < rows; row++) {
+                    String sep2 = "";
+
+                    for (int index = 0; index < size; index++) {
+                        writer.append(sep2);
+                        formatCSV0(columnar.value(row, index), format, writer);
+
+                        sep2 = format.delimiter();
+                    }
+
+                    writer.append(format.newline());
                 }
+            }
+            else {
+                for (Record record : this) {
+                    String sep2 = "";
 
-                writer.append(format.newline());
+                    int size = fields.size();
+                    for (int index = 0; index < size; index++) {
+                        writer.append(sep2);
+                        formatCSV0(record.getValue(index), format, writer);
+
+                        sep2 = format.delimiter();
+                    }
+
+                    writer.append(format.newline());
+                }
             }
 
             writer.flush();
@@ -413,39 +443,80 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private final String formatCSV0(Object value, CSVFormat format) {
+    /**
+     * Write a CSV value directly to the writer, escaping it without creating
+     * intermediary strings.
+     */
+    private final void formatCSV0(Object value, CSVFormat format, Writer writer) throws java.io.IOException {
 
         // [#2741] TODO: This logic will be externalised in new SPI
         // [#4746] Escape null and empty strings
-        if (value == null)
-            return format.nullString();
+        if (value == null) {
+            writer.write(format.nullString());
+            return;
+        }
 
-        if ("".equals(value.toString()))
-            return format.emptyString();
+        if (value instanceof String ? ((String) value).isEmpty() : "".equals(value.toString())) {
+            writer.write(format.emptyString());
+            return;
+        }
 
         // [#7802] Nested records should generate nested CSV data structures
         String result = (value instanceof Formattable)
             ? ((Formattable) value).formatCSV(format)
+            : value instanceof String
+            ? (String) value
             : format0(value, false, false);
 
         switch (format.quote()) {
             case NEVER:
-                return result;
+                writer.write(result);
+                return;
 
             case SPECIAL_CHARACTERS:
-                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\'))
-                    return result;
+                if (!StringUtils.containsAny(result, ',', ';', '\t', '"', '\n', '\r', '\'', '\\')) {
+                    writer.write(result);
+                    return;
+                }
 
                 // no break
             case ALWAYS:
             default:
-                return format.quoteString()
-                     + StringUtils.replace(
-                           StringUtils.replace(
-                               result, "\\", "\\\\"
-                           ), format.quoteString(), format.quoteString() + format.quoteString()
-                       )
-                     + format.quoteString();
+                String quote = format.quoteString();
+
+                // Escaping backslashes first, quotes second, is only equivalent
+                // to escaping both in one pass, if quotes contain no backslashes
+                if (quote.isEmpty() || quote.indexOf('\\') >= 0) {
+                    writer.write(quote);
+                    writer.write(StringUtils.replace(StringUtils.replace(result, "\\", "\\\\"), quote, quote + quote));
+                    writer.write(quote);
+                    return;
+                }
+
+                char q = quote.charAt(0);
+                int l = result.length();
+                int start = 0;
+
+                writer.write(quote);
+
+                for (int i = 0; i < l; i++) {
+                    char c = result.charAt(i);
+
+                    if (c == '\\') {
+                        writer.write(result, start, i + 1 - start);
+                        writer.write('\\');
+                        start = i + 1;
+                    }
+                    else if (c == q && result.startsWith(quote, i)) {
+                        i += quote.length() - 1;
+                        writer.write(result, start, i + 1 - start);
+                        writer.write(quote);
+                        start = i + 1;
+                    }
+                }
+
+                writer.write(result, start, l - start);
+                writer.write(quote);
         }
     }
 
@@ -548,6 +619,9 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.append('[');
             separator = "";
 
+            // The format of nested content is the same for all records
+            JSONFormat nested = nested(format, recordLevel);
+
             switch (format.recordFormat()) {
                 case ARRAY:
                     for (Record record : this) {
@@ -557,7 +631,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                         if (format.format())
                             writer.append(format.newline());
 
-                        formatJSONArray0(record, fields, format, recordLevel, writer);
+                        formatJSONArray0(record, fields, format, nested, recordLevel, writer);
                         separator = ",";
                     }
 
@@ -570,7 +644,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                         if (format.format())
                             writer.append(format.newline());
 
-                        formatJSONMap0(record, fields, format, recordLevel, writer);
+                        formatJSONMap0(record, fields, format, nested, recordLevel, writer);
                         separator = ",";
                     }
 
@@ -643,12 +717,27 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         }
     }
 
+    private static final JSONFormat nested(JSONFormat format, int recordLevel) {
+        return format.globalIndent(format.globalIndent() + format.indent() * (recordLevel + 1));
+    }
+
     static final void formatJSONMap0(
         Record record,
         AbstractRow<?> fields,
         JSONFormat format,
         int recordLevel,
         Writer writer
+    ) throws java.io.IOException {
+        formatJSONMap0(record, fields, format, nested(format, recordLevel), recordLevel, writer);
+    }
+
+    private static final void formatJSONMap0(
+        Record record,
+        AbstractRow<?> fields,
+        JSONFormat format,
+        JSONFormat nested,
+        int recordLevel,
+        Writer writer
     ) throws java.io.IOException {
         String separator = "";
         int size = fields.size();
@@ -677,7 +766,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                     writer.append(' ');
             }
 
-            formatJSON0(record.get(index), writer, format.globalIndent(format.globalIndent() + format.indent() * (recordLevel + 1)));
+            formatJSON0(record.get(index), writer, nested);
 
             if (format.format() && format.wrapSingleColumnRecords() && size == 1)
                 writer.append(' ');
@@ -698,6 +787,17 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         JSONFormat format,
         int recordLevel,
         Writer writer
+    ) throws java.io.IOException {
+        formatJSONArray0(record, fields, format, nested(format, recordLevel), recordLevel, writer);
+    }
+
+    private static final void formatJSONArray0(
+        Record record,
+        AbstractRow<?> fields,
+        JSONFormat format,
+        JSONFormat nested,
+        int recordLevel,
+        Writer writer
     ) throws java.io.IOException {
         String separator = "";
         int size = fields.size();
@@ -718,7 +818,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 else if (format.wrapSingleColumnRecords())
                     writer.append(' ');
 
-            formatJSON0(record.get(index), writer, format.globalIndent(format.globalIndent() + format.indent() * (recordLevel + 1)));
+            formatJSON0(record.get(index), writer, nested);
 
             if (format.format() && format.wrapSingleColumnRecords() && size == 1)
                 writer.append(' ');
@@ -765,18 +865,18 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                             if (schema != null) {
                                 writer.append(" schema=\"");
-                                writer.append(escapeXML(schema.getName()));
+                                escapeXML(schema.getName(), writer);
                                 writer.append("\"");
                             }
 
                             writer.append(" table=\"");
-                            writer.append(escapeXML(table.getName()));
+                            escapeXML(table.getName(), writer);
                             writer.append("\"");
                         }
                     }
 
                     writer.append(" name=\"");
-                    writer.append(escapeXML(field.getName()));
+                    escapeXML(field.getName(), writer);
                     writer.append("\"");
                     writer.append(" type=\"");
                     writer.append(field.getDataType().getTypeName().toUpperCase(renderLocale(configuration.settings())));
@@ -826,13 +926,15 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             writer.append(newline).append(format.indentString(recordLevel + 1));
             String tag = format.recordFormat() == COLUMN_NAME_ELEMENTS
-                ? escapeXML(fields.field(index).getName())
+                ? fields.field(index).getName()
                 : "value";
 
-            writer.append("<" + tag);
+            writer.append('<');
+            escapeXML(tag, writer);
+
             if (format.recordFormat() == VALUE_ELEMENTS_WITH_FIELD_ATTRIBUTE) {
                 writer.append(" field=\"");
-                writer.append(escapeXML(fields.field(index).getName()));
+                escapeXML(fields.field(index).getName(), writer);
                 writer.append("\"");
             }
 
@@ -850,9 +952,11 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 else if (value instanceof XML && !format.quoteNested())
                     writer.append(((XML) value).data());
                 else
-                    writer.append(escapeXML(format0(value, false, false)));
+                    escapeXML(format0(value, false, false), writer);
 
-                writer.append("</" + tag + ">");
+                writer.append("</");
+                escapeXML(tag, writer);
+                writer.append('>');
             }
         }
 
@@ -1044,6 +1148,8 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                     writer.write(format.newline());
                 }
             }
+
+            writer.flush();
         }
         catch (java.io.IOException e) {
             throw new IOException("Exception while writing Chart", e);
@@ -1087,7 +1193,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             for (Field<?> field : fields.fields.fields) {
                 writer.append("<th>");
-                writer.append(escapeXML(field.getName()));
+                escapeXML(field.getName(), writer);
                 writer.append("</th>");
             }
 
@@ -1101,7 +1207,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 int size = fields.size();
                 for (int index = 0; index < size; index++) {
                     writer.append("<td>");
-                    writer.append(escapeXML(format0(record.getValue(index), false, true)));
+                    escapeXML(format0(record.getValue(index), false, true), writer);
                     writer.append("</td>");
                 }
 
@@ -1342,33 +1448,33 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
     private static final String format0(Object value, boolean changed, boolean visual) {
 
         // [#2741] TODO: This logic will be externalised in new SPI
-        String formatted = changed && visual ? "*" : "";
+        String formatted;
 
         if (value == null) {
-            formatted += visual ? "{null}" : null;
+            formatted = visual ? "{null}" : "null";
         }
         else if (value.getClass() == byte[].class) {
-            formatted += DatatypeConverter.printBase64Binary((byte[]) value);
+            formatted = DatatypeConverter.printBase64Binary((byte[]) value);
         }
         else if (value.getClass().isArray()) {
             // [#6545] Nested arrays are handled recursively
-            formatted += Arrays.stream((Object[]) value).map(f -> format0(f, false, visual)).collect(joining(", ", "[", "]"));
+            formatted = Arrays.stream((Object[]) value).map(f -> format0(f, false, visual)).collect(joining(", ", "[", "]"));
         }
         else if (value instanceof EnumType) {
-            formatted += ((EnumType) value).getLiteral();
+            formatted = ((EnumType) value).getLiteral();
         }
         else if (value instanceof List) {
-            formatted += ((List<?>) value).stream().map(f -> format0(f, false, visual)).collect(joining(", ", "[", "]"));
+            formatted = ((List<?>) value).stream().map(f -> format0(f, false, visual)).collect(joining(", ", "[", "]"));
         }
         else if (value instanceof Record) {
-            formatted += Arrays
+            formatted = Arrays
                 .stream(((Record) value).valuesRow().fields())
                 .map(f -> format0(f, false, visual))
                 .collect(joining(", ", "(", ")"));
         }
         // [#6080] Support formatting of nested ROWs
         else if (value instanceof Param) {
-            formatted += format0(((Param<?>) value).getValue(), false, visual);
+            formatted = format0(((Param<?>) value).getValue(), false, visual);
         }
 
         // [#5238] Oracle DATE is really a TIMESTAMP(0)...
@@ -1376,15 +1482,15 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             String date = value.toString();
 
             if (Date.valueOf(date).equals(value))
-                formatted += date;
+                formatted = date;
             else
-                formatted += new Timestamp(((Date) value).getTime());
+                formatted = new Timestamp(((Date) value).getTime()).toString();
         }
         else {
-            formatted += value.toString();
+            formatted = value.toString();
         }
 
-        return formatted;
+        return changed && visual ? "*" + formatted : formatted;
     }
 
     private static final String escapeXML(String string) {
@@ -1392,4 +1498,32 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             new String[] { "\"", "'", "<", ">", "&" },
             new String[] { "&quot;", "&apos;", "&lt;", "&gt;", "&amp;"});
     }
+
+    /**
+     * Write a string directly to the writer, escaping XML special characters
+     * without creating intermediary strings.
+     */
+    private static final void escapeXML(String string, Writer writer) throws java.io.IOException {
+        int l = string.length();
+        int start = 0;
+
+        for (int i = 0; i < l; i++) {
+            String escaped;
+
+            switch (string.charAt(i)) {
+                case '"': escaped = "&quot;"; break;
+                case '\'': escaped = "&apos;"; break;
+                case '<': escaped = "&lt;"; break;
+                case '>': escaped = "&gt;"; break;
+                case '&': escaped = "&amp;"; break;
+                default: continue;
+            }
+
+            writer.write(string, start, i - start);
+            writer.write(escaped);
+            start = i + 1;
+        }
+
+        writer.write(string, start, l - start);
+    }
 }
@@ -37,19 +37,23 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.ForeignKey;
 import org.jooq.Query;
+import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -89,7 +93,10 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final int[] executePrepared() {
-        Map<String, List<Query>> queries = new LinkedHashMap<>();
+        List<QueryGroup> groups = new ArrayList<>();
+        Map<String, QueryGroup> lastGroups = new HashMap<>();
+        Map<Table<?>, Set<Table<?>>> references = new HashMap<>();
+        boolean referentialOrder = TRUE.equals(configuration.settings().isBatchRecordsPreserveReferentialOrder());
         QueryCollector collector = new QueryCollector();
 
         // Add the QueryCollector to intercept query execution after rendering
@@ -113,8 +120,17 @@ final class BatchCRUD extends AbstractBatch {
                 String sql = e.getSQL();
 
                 // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
-                    queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                if (query.isExecutable()) {
+                    Table<?> table = records[i].getTable();
+                    QueryGroup group = lastGroups.get(sql);
+
+                    if (group == null || referentialOrder && !appendable(groups, group, table, references)) {
+                        groups.add(group = new QueryGroup(groups.size(), table));
+                        lastGroups.put(sql, group);
+                    }
+
+                    group.queries.add(query);
+                }
             }
             finally {
                 records[i].attach(previous);
@@ -122,22 +138,22 @@ final class BatchCRUD extends AbstractBatch {
         }
 
         if (log.isDebugEnabled())
-            log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
+            log.debug("Batch " + action + " of " + records.length + " records using " + groups.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + groups.stream().mapToInt(g -> g.queries.size()).average().orElse(0.0) + " (higher is better)");
 
         // Execute one batch statement for each identical SQL statement. Every
         // SQL statement may have several queries with different bind values.
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
-        queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
+        for (QueryGroup group : groups) {
+            BatchBindStep batch = dsl.batch(group.queries.get(0));
 
-            for (Query query : v)
+            for (Query query : group.queries)
                 batch.bind(query.getBindValues().toArray());
 
             int[] array = batch.execute();
             for (int i : array)
                 result.add(i);
-        });
+        }
 
         int[] array = new int[result.size()];
         for (int i = 0; i < result.size(); i++)
@@ -176,6 +192,37 @@ final class BatchCRUD extends AbstractBatch {
         return result;
     }
 
+    /**
+     * Whether a query on a table can be appended to a group without moving it
+     * before a later group on a table related by a foreign key.
+     */
+    private static final boolean appendable(
+        List<QueryGroup> groups,
+        QueryGroup group,
+        Table<?> table,
+        Map<Table<?>, Set<Table<?>>> references
+    ) {
+        for (int j = group.index + 1; j < groups.size(); j++) {
+            Table<?> other = groups.get(j).table;
+
+            if (references(table, references).contains(other) || references(other, references).contains(table))
+                return false;
+        }
+
+        return true;
+    }
+
+    private static final Set<Table<?>> references(Table<?> table, Map<Table<?>, Set<Table<?>>> references) {
+        return references.computeIfAbsent(table, t -> {
+            Set<Table<?>> result = new HashSet<>();
+
+            for (ForeignKey<?, ?> fk : t.getReferences())
+                result.add(fk.getKey().getTable());
+
+            return result;
+        });
+    }
+
     private void executeAction(int i) {
         switch (action) {
             case STORE:
@@ -241,6 +288,21 @@ final class BatchCRUD extends AbstractBatch {
         DELETE
     }
 
+    /**
+     * Queries with identical SQL that are executed in a single batch.
+     */
+    private static final class QueryGroup {
+        final int         index;
+        final Table<?>    table;
+        final List<Query> queries;
+
+        QueryGroup(int index, Table<?> table) {
+            this.index = index;
+            this.table = table;
+            this.queries = new ArrayList<>();
+        }
+    }
+
     /**
      * Collect queries
      * <p>
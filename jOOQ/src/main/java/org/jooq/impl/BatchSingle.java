@@ -38,10 +38,14 @@
 package org.jooq.impl;
 
 import static org.jooq.conf.ParamType.INLINED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.impl.Internal.subscriber;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.visitAll;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -50,6 +54,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
@@ -57,13 +63,18 @@ import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Param;
 import org.jooq.Query;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.R2DBC.BatchSingleSubscriber;
+import org.jooq.impl.R2DBC.BatchStreamSubscription;
 import org.jooq.impl.R2DBC.BatchSubscription;
 import org.jooq.tools.JooqLogger;
 
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import io.r2dbc.spi.ConnectionFactory;
 
@@ -77,6 +88,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
     final Map<String, List<Integer>> nameToIndexMapping;
     final List<Object[]>             allBindValues;
     final int                        expectedBindValues;
+    Publisher<? extends Object[]>    stream;
 
     public BatchSingle(Configuration configuration, Query query) {
         super(configuration);
@@ -137,6 +149,12 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         return this;
     }
 
+    @Override
+    public final BatchSingle bind(Publisher<? extends Object[]> bindValues) {
+        stream = bindValues;
+        return this;
+    }
+
     @Override
     public final int size() {
         return allBindValues.size();
@@ -147,7 +165,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         ConnectionFactory cf = configuration.connectionFactory();
 
         if (!(cf instanceof NoConnectionFactory))
-            subscriber.onSubscribe(new BatchSubscription<>(this, subscriber, s -> new BatchSingleSubscriber(this, s)));
+            if (stream != null)
+                subscriber.onSubscribe(new BatchStreamSubscription(this, subscriber));
+            else
+                subscriber.onSubscribe(new BatchSubscription<>(this, subscriber, s -> new BatchSingleSubscriber(this, s)));
 
         // TODO: [#11700] Implement this
         else
@@ -156,6 +177,8 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
 
     @Override
     public final int[] execute() {
+        if (stream != null)
+            return executeStream();
 
         // [#4554] If no variables are bound this should be treated like a
         // BatchMultiple as the intention was most likely to call the varargs
@@ -166,26 +189,135 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
 
         checkBindValues();
+        return execute0(allBindValues);
+    }
+
+    private final int[] execute0(List<Object[]> rows) {
 
         // [#1180] Run batch queries with BatchMultiple, if no bind variables
         // should be used...
         if (executeStaticStatements(configuration.settings()))
-            return executeStatic();
+            return executeStatic(rows);
         else
-            return executePrepared();
+            return executePrepared(rows);
     }
 
+    /**
+     * Execute the rows produced by the {@link #stream} in sub-batches of
+     * {@link Settings#getBatchStreamSize()} rows, requesting the next rows
+     * only once the previous ones have been executed.
+     */
+    private final int[] executeStream() {
+        Settings settings = configuration.settings();
+        int size = Math.max(1, defaultIfNull(settings.getBatchStreamSize(), 1000));
+        long interval = NANOSECONDS.convert(Math.max(0, defaultIfNull(settings.getBatchFlushInterval(), 0)), MILLISECONDS);
+
+        Object complete = new Object();
+        LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<Object[]> rows = new ArrayList<>(allBindValues);
+        List<int[]> results = new ArrayList<>();
+        int count = 0;
+
+        stream.subscribe(subscriber(s -> {
+
+            // The batch may have been aborted before the subscription arrived
+            if (subscription.compareAndSet(null, s))
+                s.request(size);
+            else
+                s.cancel();
+        }, queue::add, queue::add, () -> queue.add(complete)));
+
+        try {
+            checkBindValues();
+
+            long deadline = System.nanoTime() + interval;
+
+            for (int i = rows.size(), received = 0;;) {
+                Object next = interval > 0 && !rows.isEmpty()
+                    ? queue.poll(deadline - System.nanoTime(), NANOSECONDS)
+                    : queue.take();
+
+                if (next instanceof Throwable)
+                    throw new DataAccessException("Exception when reading bind values", (Throwable) next);
+
+                if (next instanceof Object[]) {
+                    checkBindValues(i++, (Object[]) next);
+                    rows.add((Object[]) next);
+
+                    if (rows.size() == 1)
+                        deadline = System.nanoTime() + interval;
+
+                    if (++received == size) {
+                        received = 0;
+                        subscription.get().request(size);
+                    }
+                }
+
+                if (!rows.isEmpty() && (next == null || next == complete || rows.size() >= size)) {
+                    int[] result = execute0(rows);
+                    count += result.length;
+                    results.add(result);
+                    rows.clear();
+                }
+
+                if (next == complete)
+                    break;
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(subscription);
+            throw new DataAccessException("Interrupted while reading bind values", e);
+        }
+        catch (RuntimeException e) {
+            cancel(subscription);
+            throw e;
+        }
+
+        int[] result = new int[count];
+        int offset = 0;
+
+        for (int[] r : results) {
+            System.arraycopy(r, 0, result, offset, r.length);
+            offset += r.length;
+        }
+
+        return result;
+    }
+
+    private static final void cancel(AtomicReference<Subscription> subscription) {
+        Subscription s = subscription.getAndSet(CANCELLED);
+
+        if (s != null)
+            s.cancel();
+    }
+
+    /**
+     * A placeholder for a subscription that is cancelled before it arrives.
+     */
+    private static final Subscription CANCELLED = new Subscription() {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    };
+
     final void checkBindValues() {
+        for (int i = 0; i < allBindValues.size(); i++)
+            checkBindValues(i, allBindValues.get(i));
+    }
+
+    final void checkBindValues(int i, Object[] bindValues) {
 
         // [#4071] Help users debug cases where bind value counts don't match the expected number
         // [#5362] Don't do this for plain SQL queries
-        if (expectedBindValues > 0)
-            for (int i = 0; i < allBindValues.size(); i++)
-                if (allBindValues.get(i).length != expectedBindValues)
-                    log.info("Bind value count", "Batch bind value set " + i + " has " + allBindValues.get(i).length + " values when " + expectedBindValues + " values were expected");
+        if (expectedBindValues > 0 && bindValues.length != expectedBindValues)
+            log.info("Bind value count", "Batch bind value set " + i + " has " + bindValues.length + " values when " + expectedBindValues + " values were expected");
     }
 
-    private final int[] executePrepared() {
+    private final int[] executePrepared(List<Object[]> rows) {
         ExecuteContext ctx = new DefaultExecuteContext(configuration, new Query[] { query });
         ExecuteListener listener = ExecuteListeners.get(ctx);
         Connection connection = ctx.connection();
@@ -211,7 +343,7 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             if (t != 0)
                 ctx.statement().setQueryTimeout(t);
 
-            for (Object[] bindValues : allBindValues) {
+            for (Object[] bindValues : rows) {
                 listener.bindStart(ctx);
 
                 // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
@@ -266,10 +398,10 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         return map(collector.resultList, e -> e.getValue(), Param[]::new);
     }
 
-    private final int[] executeStatic() {
-        List<Query> queries = new ArrayList<>(allBindValues.size());
+    private final int[] executeStatic(List<Object[]> rows) {
+        List<Query> queries = new ArrayList<>(rows.size());
 
-        for (Object[] bindValues : allBindValues) {
+        for (Object[] bindValues : rows) {
             for (int i = 0; i < bindValues.length; i++)
                 query.bind(i + 1, bindValues[i]);
 
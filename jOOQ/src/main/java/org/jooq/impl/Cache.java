@@ -37,11 +37,12 @@
  */
 package org.jooq.impl;
 
-import static org.jooq.tools.StringUtils.defaultIfNull;
-
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.jooq.impl.CacheType;
@@ -69,42 +70,154 @@ final class Cache {
         if (configuration == null)
             configuration = new DefaultConfiguration();
 
-        // Shortcut caching when the relevant Settings flag isn't set.
-        if (!type.category.predicate.test(configuration.settings()))
-            return operation.get();
-
-        Object cacheOrNull = configuration.data(type);
-        if (cacheOrNull == null) {
-            synchronized (type) {
-                cacheOrNull = configuration.data(type);
+        // Shortcut caching when the relevant Settings flag isn't set, without
+        // consulting the CacheProvider, or when it didn't provide any cache.
+        boolean enabled = type.category.predicate.test(configuration.settings());
+        DefaultCacheContext ctx = context(configuration, type, enabled);
 
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
-            }
-        }
-
-        if (cacheOrNull == NULL)
+        if (!enabled || ctx.cache == null) {
+            ctx.bypasses.increment();
             return operation.get();
+        }
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
+        // recursively, we register an in-flight future per key instead. Misses
+        // on different keys are computed in parallel, while concurrent misses
+        // on the same key are computed only once.
+        Map<Object, Object> cache = ctx.cache;
         Object k = key.get();
         Object v = cache.get(k);
-        if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
+        if (v != null) {
+            ctx.hits.increment();
+            return (V) unwrap(v);
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = ctx.inFlight.putIfAbsent(k, future);
+        int[] depth = DEPTH.get();
+
+        if (inFlight != null) {
+
+            // Operations that populate the cache recursively must not wait for
+            // other threads, which may in turn be waiting for this thread, or
+            // for themselves in case of a recursion on the same key.
+            if (depth[0] > 0)
+                return load(ctx, operation);
+
+            ctx.hits.increment();
+            return (V) unwrap(await(inFlight));
+        }
+
+        depth[0]++;
+        try {
+            v = cache.get(k);
+
+            if (v == null)
+                cache.put(k, v = wrap(load(ctx, operation)));
+            else
+                ctx.hits.increment();
+
+            future.complete(v);
+            return (V) unwrap(v);
+        }
+        catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            depth[0]--;
+            ctx.inFlight.remove(k, future);
+        }
+    }
+
+    /**
+     * Get the {@link DefaultCacheContext} for a {@link CacheType} from a
+     * {@link Configuration}, initialising it if needed.
+     *
+     * @param provide Whether the context's cache should be obtained from the
+     *            {@link org.jooq.CacheProvider}, if that hasn't happened yet.
+     */
+    static final DefaultCacheContext context(Configuration configuration, CacheType type, boolean provide) {
+        DefaultCacheContext ctx = (DefaultCacheContext) configuration.data(type);
+
+        if (ctx == null || provide && !ctx.provided) {
+            ReentrantLock lock = LOCKS[type.ordinal()];
+
+            lock.lock();
+            try {
+                ctx = (DefaultCacheContext) configuration.data(type);
+
+                if (ctx == null)
+                    configuration.data(type, ctx = new DefaultCacheContext(configuration, type));
+
+                if (provide && !ctx.provided) {
+                    ctx.cache = configuration.cacheProvider().provide(ctx);
+                    ctx.provided = true;
+                }
+            }
+            finally {
+                lock.unlock();
             }
         }
 
-        return (V) (v == NULL ? null : v);
+        return ctx;
+    }
+
+    /**
+     * Locks for the initialisation of caches per {@link CacheType}, which,
+     * unlike monitors, don't pin virtual threads while blocking in a
+     * {@link org.jooq.CacheProvider}.
+     */
+    private static final ReentrantLock[] LOCKS = locks();
+
+    private static final ReentrantLock[] locks() {
+        ReentrantLock[] result = new ReentrantLock[CacheType.values().length];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = new ReentrantLock();
+
+        return result;
+    }
+
+    private static final <V> V load(DefaultCacheContext ctx, Supplier<V> operation) {
+        long start = System.nanoTime();
+
+        try {
+            return operation.get();
+        }
+        finally {
+            ctx.misses.increment();
+            ctx.loadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The nesting depth of cached operations on the current thread.
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    private static final Object wrap(Object v) {
+        return v == null ? NULL : v;
+    }
+
+    private static final Object unwrap(Object v) {
+        return v == NULL ? null : v;
     }
 
     /**
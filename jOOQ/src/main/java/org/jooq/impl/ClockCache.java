@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A thread safe, size bounded cache that approximates LRU eviction using the
+ * CLOCK (second chance) algorithm.
+ * <p>
+ * Unlike a {@link LinkedHashMap} in access order wrapped in
+ * {@link Collections#synchronizedMap(Map)}, reads do not reorder any shared
+ * structure, they only set a reference flag on the entry. Reads and writes
+ * can thus proceed concurrently without a global monitor. Eviction is done
+ * by at most one thread at a time, so the cache may temporarily exceed its
+ * size by the number of concurrent writers.
+ *
+ * @author Lukas Eder
+ */
+final class ClockCache<K, V> extends AbstractMap<K, V> {
+
+    private final int                            size;
+    private final Runnable                       onEviction;
+    private final ConcurrentHashMap<K, Slot<V>>  map;
+    private final ConcurrentLinkedQueue<K>       clock;
+    private final AtomicBoolean                  evicting;
+
+    ClockCache(int size) {
+        this(size, null);
+    }
+
+    ClockCache(int size, Runnable onEviction) {
+        this.size = size;
+        this.onEviction = onEviction;
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.evicting = new AtomicBoolean();
+    }
+
+    @Override
+    public final V get(Object key) {
+        Slot<V> slot = map.get(key);
+
+        if (slot == null)
+            return null;
+
+        slot.referenced = true;
+        return slot.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        Slot<V> previous = map.put(key, new Slot<>(value));
+
+        if (previous != null)
+            return previous.value;
+
+        clock.offer(key);
+        evict();
+        return null;
+    }
+
+    @Override
+    public final V remove(Object key) {
+        Slot<V> previous = map.remove(key);
+
+        if (previous == null)
+            return null;
+
+        clock.remove(key);
+        return previous.value;
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final void clear() {
+        map.clear();
+        clock.clear();
+    }
+
+    private final void evict() {
+        if (map.size() <= size || !evicting.compareAndSet(false, true))
+            return;
+
+        try {
+
+            // Every slot is visited at most twice: once to clear its reference
+            // flag and once to evict it, unless it is referenced again in the
+            // meantime.
+            int budget = 2 * map.size() + 1;
+            K key;
+
+            while (map.size() > size && budget-- > 0 && (key = clock.poll()) != null) {
+                Slot<V> slot = map.get(key);
+
+                // The key was removed explicitly
+                if (slot == null)
+                    continue;
+
+                if (slot.referenced) {
+                    slot.referenced = false;
+                    clock.offer(key);
+                }
+                else if (map.remove(key, slot) && onEviction != null)
+                    onEviction.run();
+            }
+        }
+        finally {
+            evicting.set(false);
+        }
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public final Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, Slot<V>>> it = map.entrySet().iterator();
+
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public final boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public final Entry<K, V> next() {
+                        Entry<K, Slot<V>> e = it.next();
+                        return new SimpleImmutableEntry<>(e.getKey(), e.getValue().value);
+                    }
+
+                    @Override
+                    public final void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public final int size() {
+                return map.size();
+            }
+        };
+    }
+
+    private static final class Slot<V> {
+        final V          value;
+        volatile boolean referenced;
+
+        Slot(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.ObjectStreamException;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jooq.Attachable;
+import org.jooq.Configuration;
+import org.jooq.Record;
+
+/**
+ * A columnar storage for the records of a {@link ResultImpl}.
+ * <p>
+ * Values of <code>int</code>, <code>long</code> and <code>double</code>
+ * columns are stored in primitive arrays with a bitmap of <code>null</code>
+ * values, all other values in an <code>Object[]</code> per column. Records are
+ * created on demand from the column arrays, so modifying them does not write
+ * through to this storage.
+ * <p>
+ * The first modification of the list itself, e.g. by sorting it, materialises
+ * all records into an {@link ArrayList}, which backs the list from then on.
+ * The storage is also serialised as such an {@link ArrayList}.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Attachable {
+
+    private final Supplier<? extends R> factory;
+    private Configuration               configuration;
+    private Column[]                    columns;
+    private List<R>                     materialised;
+    private int                         size;
+
+    ColumnarRecords(Configuration configuration, AbstractRow<?> fields, Supplier<? extends R> factory) {
+        this.configuration = attachRecords(configuration) ? configuration : null;
+        this.factory = factory;
+        this.columns = new Column[fields.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = column(fields.field(i).getType());
+    }
+
+    private static final Column column(Class<?> type) {
+        if (type == Integer.class || type == int.class)
+            return new IntColumn();
+        else if (type == Long.class || type == long.class)
+            return new LongColumn();
+        else if (type == Double.class || type == double.class)
+            return new DoubleColumn();
+        else
+            return new ObjectColumn();
+    }
+
+    /**
+     * Whether the records have been materialised, in case of which the column
+     * arrays are no longer available.
+     */
+    final boolean materialised() {
+        return materialised != null;
+    }
+
+    private final List<R> materialise() {
+        if (materialised == null) {
+            List<R> list = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++)
+                list.add(get(i));
+
+            materialised = list;
+            columns = null;
+        }
+
+        return materialised;
+    }
+
+    /**
+     * Intern the <code>String</code> values of a column in place.
+     */
+    final void intern(int column) {
+        if (columns[column] instanceof ObjectColumn) {
+            Object[] values = ((ObjectColumn) columns[column]).values;
+
+            for (int i = 0; i < size; i++)
+                if (values[i] instanceof String)
+                    values[i] = ((String) values[i]).intern();
+        }
+    }
+
+    final void addRecord(Record record) {
+        AbstractRecord r = (AbstractRecord) record;
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i].add(size, r.values[i]);
+
+        size++;
+    }
+
+    /**
+     * The value at a given row and column, without creating a record.
+     */
+    final Object value(int row, int column) {
+        return columns[column].get(row);
+    }
+
+    /**
+     * The values of a column, without creating any records.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> List<T> values(int column) {
+        List<T> result = new ArrayList<>(size);
+        Column c = columns[column];
+
+        for (int i = 0; i < size; i++)
+            result.add((T) c.get(i));
+
+        return result;
+    }
+
+    /**
+     * The values of a column as an array of a given component type, without
+     * creating any records.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> T[] array(int column, Class<? extends T> type) {
+        T[] result = (T[]) Array.newInstance(type, size);
+        Column c = columns[column];
+
+        for (int i = 0; i < size; i++)
+            result[i] = (T) c.get(i);
+
+        return result;
+    }
+
+    @Override
+    public final R get(int index) {
+        if (materialised != null)
+            return materialised.get(index);
+        else if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        R record = factory.get();
+        AbstractRecord r = (AbstractRecord) record;
+
+        for (int i = 0; i < columns.length; i++)
+            r.values[i] = r.originals[i] = columns[i].get(index);
+
+        r.fetched = true;
+
+        if (configuration != null)
+            record.attach(configuration);
+
+        return record;
+    }
+
+    @Override
+    public final int size() {
+        return materialised != null ? materialised.size() : size;
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        return materialise().set(index, element);
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        materialise().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public final R remove(int index) {
+        R result = materialise().remove(index);
+        modCount++;
+        return result;
+    }
+
+    @Override
+    public final void clear() {
+        materialise().clear();
+        modCount++;
+    }
+
+    @Override
+    public final void sort(Comparator<? super R> c) {
+        materialise().sort(c);
+        modCount++;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Serializable API
+    // -------------------------------------------------------------------------
+
+    private final Object writeReplace() throws ObjectStreamException {
+        return materialised != null ? materialised : new ArrayList<>(this);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void attach(Configuration c) {
+        if (materialised != null) {
+            for (R record : materialised)
+                if (record != null)
+                    record.attach(c);
+        }
+        else
+            configuration = c;
+    }
+
+    @Override
+    public final void detach() {
+        attach(null);
+    }
+
+    @Override
+    public final Configuration configuration() {
+        return configuration;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column implementations
+    // -------------------------------------------------------------------------
+
+    private static abstract class Column {
+        static final int INITIAL_CAPACITY = 16;
+
+        final BitSet     nulls            = new BitSet();
+
+        abstract void add(int row, Object value);
+        abstract Object get(int row);
+
+        static final int capacity(int length, int row) {
+            return row < length ? length : Math.max(INITIAL_CAPACITY, length + (length >> 1));
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[0];
+
+        @Override
+        final void add(int row, Object value) {
+            values = row < values.length ? values : Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Integer) value;
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[0];
+
+        @Override
+        final void add(int row, Object value) {
+            values = row < values.length ? values : Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Long) value;
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[0];
+
+        @Override
+        final void add(int row, Object value) {
+            values = row < values.length ? values : Arrays.copyOf(values, capacity(values.length, row));
+
+            if (value == null)
+                nulls.set(row);
+            else
+                values[row] = (Double) value;
+        }
+
+        @Override
+        final Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[0];
+
+        @Override
+        final void add(int row, Object value) {
+            values = row < values.length ? values : Arrays.copyOf(values, capacity(values.length, row));
+            values[row] = value;
+        }
+
+        @Override
+        final Object get(int row) {
+            return values[row];
+        }
+    }
+}
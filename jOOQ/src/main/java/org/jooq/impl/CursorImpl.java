@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Collections.emptyList;
 // ...
 import static org.jooq.impl.RowField.NO_NATIVE_SUPPORT;
@@ -44,6 +45,7 @@ import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
 import static org.jooq.impl.Tools.recordFactory;
 import static org.jooq.impl.Tools.uncoerce;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -71,10 +73,16 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.jooq.Attachable;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -83,6 +91,7 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -216,7 +225,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
     @Override
     public final Iterator<R> iterator() {
         if (iterator == null) {
-            iterator = new CursorIterator();
+            int prefetch = defaultIfNull(ctx.settings().getFetchPrefetchSize(), 0);
+
+            iterator = prefetch > 0 ? new PrefetchIterator(new CursorIterator(), prefetch) : new CursorIterator();
             listener.fetchStart(ctx);
         }
 
@@ -228,7 +239,10 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields);
+        Configuration c = ((DefaultExecuteContext) ctx).originalConfiguration();
+        ResultImpl<R> result = TRUE.equals(c.settings().isFetchColumnarResults())
+            ? new ResultImpl<>(c, fields, new ColumnarRecords<>(c, fields, factory))
+            : new ResultImpl<>(c, fields);
 
         ctx.result(result);
         listener.resultStart(ctx);
@@ -244,6 +258,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     @Override
     public final void close() {
+        if (iterator instanceof CursorImpl.PrefetchIterator)
+            ((PrefetchIterator) iterator).stop();
+
         JDBCUtils.safeClose(rs);
         rs = null;
         isClosed = true;
@@ -1376,6 +1393,188 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         }
     }
 
+    /**
+     * An iterator that fetches records from a {@link CursorIterator} on a
+     * background thread into a bounded buffer, while the consumer processes
+     * previously fetched records.
+     * <p>
+     * The {@link ExecuteListener} events of fetched records and of the end of
+     * the fetch, as well as closing the cursor once all records have been
+     * fetched, happen on the background thread. If the
+     * {@link Configuration#executorProvider()} rejects the background task, or
+     * runs it on the consumer's thread, records are fetched directly from the
+     * {@link CursorIterator} instead.
+     */
+    final class PrefetchIterator implements Iterator<R> {
+
+        private final Object                 end     = new Object();
+        private final CursorIterator         delegate;
+        private final BlockingQueue<Object>  buffer;
+
+        /**
+         * Whether the producer has started, or will never start, because the
+         * consumer stopped this iterator first.
+         */
+        private final AtomicBoolean          claimed = new AtomicBoolean();
+
+        /**
+         * Held by the producer while it is fetching records.
+         */
+        private final ReentrantLock          lock    = new ReentrantLock();
+        private volatile boolean             stopped;
+        private volatile Thread              producer;
+        private Thread                       consumer;
+        private boolean                      started;
+        private boolean                      direct;
+        private Object                       next;
+
+        PrefetchIterator(CursorIterator delegate, int size) {
+            this.delegate = delegate;
+            this.buffer = new ArrayBlockingQueue<>(size);
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (direct)
+                return delegate.hasNext();
+            else if (stopped)
+                return false;
+            else if (!started && !start())
+                return delegate.hasNext();
+
+            if (next == null) {
+                try {
+                    next = buffer.take();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while waiting for prefetched records", e);
+                }
+            }
+
+            if (next instanceof RuntimeException)
+                throw (RuntimeException) next;
+            else if (next instanceof Error)
+                throw (Error) next;
+            else
+                return next != end;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R next() {
+            if (direct)
+                return delegate.next();
+            else if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+            R result = (R) next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Start the producer, returning <code>false</code> if records have to
+         * be fetched directly instead.
+         */
+        private final boolean start() {
+            started = true;
+            consumer = Thread.currentThread();
+
+            try {
+                configuration().executorProvider().provide().execute(this::produce);
+            }
+            catch (RejectedExecutionException e) {
+                direct = true;
+            }
+
+            return !direct;
+        }
+
+        private final void produce() {
+
+            // A producer running on the consumer's thread would fill the
+            // buffer and then wait for a consumer that never comes
+            if (Thread.currentThread() == consumer) {
+                direct = true;
+                return;
+            }
+
+            lock.lock();
+            try {
+                if (claimed.compareAndSet(false, true))
+                    produce0();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private final void produce0() {
+            producer = Thread.currentThread();
+            boolean interrupted = false;
+            Object last = end;
+
+            try {
+                while (!stopped && delegate.hasNext())
+                    buffer.put(delegate.next());
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+                last = new DataAccessException("Interrupted while prefetching records", e);
+            }
+            catch (RuntimeException | Error e) {
+                last = e;
+            }
+            finally {
+                producer = null;
+            }
+
+            // The terminal element is always published unless the consumer
+            // stopped this iterator. stop() clears the buffer after setting
+            // stopped, so the producer never waits for space after that.
+            while (!stopped) {
+                try {
+                    buffer.put(last);
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        /**
+         * Stop the producer and wait for it to release the {@link ResultSet},
+         * unless the producer itself is closing the cursor.
+         */
+        final void stop() {
+            if (producer == Thread.currentThread())
+                return;
+
+            stopped = true;
+            buffer.clear();
+
+            // A producer that hasn't claimed the cursor yet won't fetch anything
+            if (!claimed.compareAndSet(false, true)) {
+                lock.lock();
+                lock.unlock();
+            }
+
+            // Wake up a consumer that might be waiting on another thread
+            buffer.clear();
+            buffer.offer(end);
+        }
+    }
+
     /**
      * An iterator for records fetched by this cursor
      */
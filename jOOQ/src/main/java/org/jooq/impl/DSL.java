@@ -530,8 +530,10 @@ public class DSL {
      * }
      * </pre></code>
      * <p>
-     * Both acquisition and release of JDBC and R2DBC connection URLs are
-     * blocking.
+     * Both acquisition and release of JDBC connection URLs are blocking. R2DBC
+     * connections are acquired lazily without blocking when they are first
+     * needed, and released without blocking when closing from a non-blocking
+     * thread.
      *
      * @param url The connection URL.
      * @see DefaultConnectionProvider
@@ -540,8 +542,8 @@ public class DSL {
     @NotNull
     public static CloseableDSLContext using(String url) {
         if (url.startsWith("r2dbc")) {
-            io.r2dbc.spi.Connection connection = R2DBC.getConnection(url);
-            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connection, true), JDBCUtils.dialect(connection));
+            ConnectionFactory connectionFactory = R2DBC.getConnectionFactory(url);
+            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connectionFactory), JDBCUtils.dialect(connectionFactory));
         }
         else {
             try {
@@ -569,8 +571,10 @@ public class DSL {
      * }
      * </pre></code>
      * <p>
-     * Both acquisition and release of JDBC and R2DBC connection URLs are
-     * blocking.
+     * Both acquisition and release of JDBC connection URLs are blocking. R2DBC
+     * connections are acquired lazily without blocking when they are first
+     * needed, and released without blocking when closing from a non-blocking
+     * thread.
      *
      * @param url The connection URL.
      * @param username The connection user name.
@@ -581,8 +585,8 @@ public class DSL {
     @NotNull
     public static CloseableDSLContext using(String url, String username, String password) {
         if (url.startsWith("r2dbc")) {
-            io.r2dbc.spi.Connection connection = R2DBC.getConnection(url, username, password);
-            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connection, true), JDBCUtils.dialect(connection));
+            ConnectionFactory connectionFactory = R2DBC.getConnectionFactory(url, username, password);
+            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connectionFactory), JDBCUtils.dialect(connectionFactory));
         }
         else {
             try {
@@ -610,8 +614,10 @@ public class DSL {
      * }
      * </pre></code>
      * <p>
-     * Both acquisition and release of JDBC and R2DBC connection URLs are
-     * blocking.
+     * Both acquisition and release of JDBC connection URLs are blocking. R2DBC
+     * connections are acquired lazily without blocking when they are first
+     * needed, and released without blocking when closing from a non-blocking
+     * thread.
      *
      * @param url The connection URL.
      * @param properties The connection properties.
@@ -621,8 +627,8 @@ public class DSL {
     @NotNull
     public static CloseableDSLContext using(String url, Properties properties) {
         if (url.startsWith("r2dbc")) {
-            io.r2dbc.spi.Connection connection = R2DBC.getConnection(url, properties);
-            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connection, true), JDBCUtils.dialect(connection));
+            ConnectionFactory connectionFactory = R2DBC.getConnectionFactory(url, properties);
+            return new DefaultCloseableDSLContext(new DefaultConnectionFactory(connectionFactory), JDBCUtils.dialect(connectionFactory));
         }
         else {
             try {
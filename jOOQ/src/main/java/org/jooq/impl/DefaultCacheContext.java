@@ -37,6 +37,11 @@
  */
 package org.jooq.impl;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.jooq.CacheContext;
 import org.jooq.impl.CacheType;
 import org.jooq.Configuration;
@@ -46,16 +51,78 @@ import org.jooq.Configuration;
  */
 final class DefaultCacheContext extends AbstractScope implements CacheContext {
 
-    private final CacheType cacheType;
+    private final CacheType                                    cacheType;
+    final LongAdder                                            hits;
+    final LongAdder                                            misses;
+    final LongAdder                                            loadTime;
+    final LongAdder                                            evictions;
+    final LongAdder                                            bypasses;
+
+    /**
+     * The values that are currently being computed, per key.
+     */
+    final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight;
+
+    /**
+     * The cache provided for this context, if any.
+     */
+    volatile Map<Object, Object>                               cache;
+
+    /**
+     * Whether the {@link #cache} has been obtained from the
+     * {@link org.jooq.CacheProvider} yet.
+     */
+    volatile boolean                                           provided;
 
     DefaultCacheContext(Configuration configuration, CacheType cacheType) {
         super(configuration);
 
         this.cacheType = cacheType;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.loadTime = new LongAdder();
+        this.evictions = new LongAdder();
+        this.bypasses = new LongAdder();
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    final void evicted() {
+        evictions.increment();
     }
 
     @Override
     public final CacheType cacheType() {
         return cacheType;
     }
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long loadTime() {
+        return loadTime.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final long bypasses() {
+        return bypasses.sum();
+    }
+
+    @Override
+    public final int size() {
+        Map<Object, Object> c = cache;
+        return c == null ? 0 : c.size();
+    }
 }
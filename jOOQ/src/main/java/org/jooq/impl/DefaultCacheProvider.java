@@ -37,7 +37,6 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
@@ -49,7 +48,7 @@ import org.jooq.CacheProvider;
 
 /**
  * A default implementation producing a {@link ConcurrentHashMap} in most cases,
- * or a synchronized LRU cache where appropriate.
+ * or a bounded {@link ClockCache} where appropriate.
  *
  * @author Lukas Eder
  */
@@ -59,10 +58,12 @@ final class DefaultCacheProvider implements CacheProvider {
     public Map<Object, Object> provide(CacheContext ctx) {
         switch (ctx.cacheType()) {
 
-            // TODO: Is there a better implementation than wrapping LinkedHashMap
-            // in synchronizedMap(), i.e. one that does not use a monitor?
+            // [#8334] A bounded cache whose reads don't contend on a monitor
             case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
+                return new ClockCache<>(
+                    defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912),
+                    ctx instanceof DefaultCacheContext ? ((DefaultCacheContext) ctx)::evicted : null
+                );
 
             default:
                 return new ConcurrentHashMap<>();
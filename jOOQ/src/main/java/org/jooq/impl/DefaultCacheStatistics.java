@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import org.jooq.CacheStatistics;
+
+/**
+ * An immutable snapshot of {@link CacheStatistics}.
+ *
+ * @author Lukas Eder
+ */
+final class DefaultCacheStatistics implements CacheStatistics {
+
+    private final CacheType cacheType;
+    private final long      hits;
+    private final long      misses;
+    private final long      loadTime;
+    private final long      evictions;
+    private final long      bypasses;
+    private final int       size;
+
+    DefaultCacheStatistics(CacheType cacheType) {
+        this(cacheType, 0L, 0L, 0L, 0L, 0L, 0);
+    }
+
+    DefaultCacheStatistics(CacheStatistics statistics) {
+        this(
+            statistics.cacheType(),
+            statistics.hits(),
+            statistics.misses(),
+            statistics.loadTime(),
+            statistics.evictions(),
+            statistics.bypasses(),
+            statistics.size()
+        );
+    }
+
+    DefaultCacheStatistics(
+        CacheType cacheType,
+        long hits,
+        long misses,
+        long loadTime,
+        long evictions,
+        long bypasses,
+        int size
+    ) {
+        this.cacheType = cacheType;
+        this.hits = hits;
+        this.misses = misses;
+        this.loadTime = loadTime;
+        this.evictions = evictions;
+        this.bypasses = bypasses;
+        this.size = size;
+    }
+
+    @Override
+    public final CacheType cacheType() {
+        return cacheType;
+    }
+
+    @Override
+    public final long hits() {
+        return hits;
+    }
+
+    @Override
+    public final long misses() {
+        return misses;
+    }
+
+    @Override
+    public final long loadTime() {
+        return loadTime;
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public final long bypasses() {
+        return bypasses;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return cacheType
+            + " [hits=" + hits
+            + ", misses=" + misses
+            + ", loadTime=" + loadTime
+            + ", evictions=" + evictions
+            + ", bypasses=" + bypasses
+            + ", size=" + size
+            + "]";
+    }
+}
@@ -85,10 +85,8 @@ public class DefaultCloseableDSLContext extends DefaultDSLContext implements Clo
         if (cf instanceof DefaultConnectionFactory) {
             DefaultConnectionFactory dcf = (DefaultConnectionFactory) cf;
 
-            if (dcf.finalize) {
-                R2DBC.block(dcf.connection.close());
-                dcf.connection = null;
-            }
+            if (dcf.finalize)
+                dcf.close();
         }
     }
 }
@@ -37,9 +37,14 @@
  */
 package org.jooq.impl;
 
+import static org.jooq.impl.Internal.subscriber;
 import static org.jooq.impl.R2DBC.AbstractSubscription.onRequest;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jooq.exception.DetachedException;
 
@@ -58,11 +63,18 @@ import io.r2dbc.spi.ValidationDepth;
 /**
  * A {@link ConnectionFactory} wrapper for a single connection, which cannot be
  * closed via this connection factory.
+ * <p>
+ * The connection may be created lazily from a delegate
+ * {@link ConnectionFactory} when it is first needed, without blocking.
  */
 final class DefaultConnectionFactory implements ConnectionFactory {
 
-    Connection    connection;
-    final boolean finalize;
+    volatile Connection                                 connection;
+    final boolean                                       finalize;
+    final ConnectionFactory                             delegate;
+    final AtomicReference<CompletableFuture<Connection>> connecting;
+    final ReentrantLock                                 lock;
+    volatile boolean                                    closed;
 
     DefaultConnectionFactory(Connection connection) {
         this(connection, false);
@@ -71,6 +83,21 @@ final class DefaultConnectionFactory implements ConnectionFactory {
     DefaultConnectionFactory(Connection connection, boolean finalize) {
         this.connection = connection;
         this.finalize = finalize;
+        this.delegate = null;
+        this.connecting = null;
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * A connection factory creating its single connection lazily from a
+     * delegate, which is closed along with the owning {@link org.jooq.DSLContext}.
+     */
+    DefaultConnectionFactory(ConnectionFactory delegate) {
+        this.connection = null;
+        this.finalize = true;
+        this.delegate = delegate;
+        this.connecting = new AtomicReference<>();
+        this.lock = new ReentrantLock();
     }
 
     final Connection connectionOrThrow() {
@@ -82,15 +109,115 @@ final class DefaultConnectionFactory implements ConnectionFactory {
 
     @Override
     public final Publisher<? extends Connection> create() {
-        return s -> s.onSubscribe(onRequest(s, x -> {
-            x.onNext(new NonClosingConnection());
-            x.onComplete();
-        }));
+        if (delegate == null || connection != null)
+            return s -> s.onSubscribe(onRequest(s, x -> {
+                x.onNext(new NonClosingConnection());
+                x.onComplete();
+            }));
+
+        return s -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+
+            s.onSubscribe(onRequest(s, x -> {
+                if (!emitted.getAndSet(true))
+                    connect().whenComplete((c, t) -> {
+                        if (t != null) {
+                            x.onError(t);
+                        }
+                        else {
+                            x.onNext(new NonClosingConnection());
+                            x.onComplete();
+                        }
+                    });
+            }));
+        };
+    }
+
+    /**
+     * Create the connection from the delegate, once, unless creating it
+     * failed, in case of which the next call tries again.
+     */
+    private final CompletableFuture<Connection> connect() {
+        CompletableFuture<Connection> f = new CompletableFuture<>();
+        CompletableFuture<Connection> current;
+
+        if (closed) {
+            f.completeExceptionally(new DetachedException("R2DBC Connection not available or already closed"));
+            return f;
+        }
+
+        while ((current = connecting.get()) == null)
+            if (connecting.compareAndSet(null, f))
+                break;
+
+        if (current != null)
+            return current;
+
+        delegate.create().subscribe(subscriber(
+            s -> s.request(1),
+            c -> {
+                boolean open;
+
+                lock.lock();
+                try {
+                    if (open = !closed)
+                        connection = c;
+                }
+                finally {
+                    lock.unlock();
+                }
+
+                // The factory was closed while the connection was being created
+                if (open) {
+                    f.complete(c);
+                }
+                else {
+                    R2DBC.close(c);
+                    fail(f, new DetachedException("R2DBC Connection not available or already closed"));
+                }
+            },
+            t -> fail(f, t),
+            () -> {
+                if (!f.isDone())
+                    fail(f, new DetachedException("R2DBC ConnectionFactory did not create a Connection"));
+            }
+        ));
+
+        return f;
+    }
+
+    private final void fail(CompletableFuture<Connection> f, Throwable t) {
+        connecting.compareAndSet(f, null);
+        f.completeExceptionally(t);
+    }
+
+    /**
+     * Close the connection, including a connection that is still being
+     * created.
+     */
+    final void close() {
+        Connection c;
+
+        lock.lock();
+        try {
+            closed = true;
+            c = connection;
+            connection = null;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (c != null)
+            R2DBC.close(c);
     }
 
     @Override
     public final ConnectionFactoryMetadata getMetadata() {
-        return () -> connectionOrThrow().getMetadata().getDatabaseProductName();
+        if (delegate != null && connection == null)
+            return delegate.getMetadata();
+        else
+            return () -> connectionOrThrow().getMetadata().getDatabaseProductName();
     }
 
     private final class NonClosingConnection implements Connection {
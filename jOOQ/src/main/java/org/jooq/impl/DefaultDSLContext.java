@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
@@ -66,6 +67,7 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.getMappedSchema;
 import static org.jooq.impl.Tools.getMappedTable;
 import static org.jooq.impl.Tools.list;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -2723,7 +2725,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
     @Override
     public <T> T batchedResult(BatchedCallable<T> callable) {
         return connectionResult(connection -> {
-            try (BatchedConnection bc = new BatchedConnection(connection, SettingsTools.getBatchSize(settings()))) {
+            try (BatchedConnection bc = batchedConnection(connection)) {
                 Configuration c = configuration().derive(bc);
 
                 try {
@@ -2739,6 +2741,20 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         });
     }
 
+    private final BatchedConnection batchedConnection(Connection connection) {
+        Settings settings = settings();
+        BatchedConnection result = new BatchedConnection(connection, SettingsTools.getBatchSize(settings));
+
+        result.setAdaptiveBatchSize(TRUE.equals(settings.isBatchSizeAdaptive()));
+        result.setFlushInterval(defaultIfNull(settings.getBatchFlushInterval(), 0));
+
+        int maxInFlight = defaultIfNull(settings.getBatchMaxInFlight(), 0);
+        if (maxInFlight > 0)
+            result.setAsyncExecution(configuration().executorProvider().provide(), maxInFlight);
+
+        return result;
+    }
+
     @Override
     public Batch batch(Query... queries) {
         return new BatchMultiple(configuration(), queries);
@@ -69,19 +69,21 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     final String                    normalisedStatement;
     final Set<String>               duplicateStatements;
     final List<String>              repeatedStatements;
+    final double                    samplingWeight;
     boolean                         resultSetUnnecessaryWasNullCall;
     boolean                         resultSetMissingWasNullCall;
     int                             resultSetColumnIndex;
 
-    DefaultDiagnosticsContext(String actualStatement) {
-        this(actualStatement, actualStatement, Collections.singleton(actualStatement), Collections.singletonList(actualStatement));
+    DefaultDiagnosticsContext(String actualStatement, double samplingWeight) {
+        this(actualStatement, actualStatement, Collections.singleton(actualStatement), Collections.singletonList(actualStatement), samplingWeight);
     }
 
-    DefaultDiagnosticsContext(String actualStatement, String normalisedStatement, Set<String> duplicateStatements, List<String> repeatedStatements) {
+    DefaultDiagnosticsContext(String actualStatement, String normalisedStatement, Set<String> duplicateStatements, List<String> repeatedStatements, double samplingWeight) {
         this.actualStatement = actualStatement;
         this.normalisedStatement = normalisedStatement;
         this.duplicateStatements = duplicateStatements == null ? emptySet() : duplicateStatements;
         this.repeatedStatements = repeatedStatements == null ? emptyList() : repeatedStatements;
+        this.samplingWeight = samplingWeight;
     }
 
     @Override
@@ -185,4 +187,9 @@ final class DefaultDiagnosticsContext implements DiagnosticsContext {
     public final List<String> repeatedStatements() {
         return Collections.unmodifiableList(repeatedStatements);
     }
+
+    @Override
+    public final double samplingWeight() {
+        return samplingWeight;
+    }
 }
@@ -59,7 +59,10 @@ import static org.jooq.impl.Tools.row0;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -72,6 +75,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 // ...
 import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -402,7 +406,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         // [#1340] Allow for using non-public default constructors
         try {
-            MutablePOJOMapper m = new MutablePOJOMapper(new ConstructorCall<>(accessible(type.getDeclaredConstructor())), instance);
+            MutablePOJOMapper m = new MutablePOJOMapper(constructorCall(accessible(type.getDeclaredConstructor())), instance);
 
             // [#10194] Check if the POJO is really mutable. There might as well
             //          be a no-args constructor for other reasons, e.g. when
@@ -774,6 +778,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final boolean                          useAnnotations;
         private final List<java.lang.reflect.Field>[]  members;
         private final List<java.lang.reflect.Method>[] methods;
+        private final MethodHandle[][]                 memberSetters;
+        private final MethodHandle[][]                 methodSetters;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
         private final E                                instance;
 
@@ -829,6 +835,14 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 }
             }
 
+            this.memberSetters = new MethodHandle[fields.length][];
+            this.methodSetters = new MethodHandle[fields.length][];
+
+            for (int i = 0; i < fields.length; i++) {
+                memberSetters[i] = members[i].stream().map(DefaultRecordMapper::setter).toArray(MethodHandle[]::new);
+                methodSetters[i] = methods[i].stream().map(DefaultRecordMapper::setter).toArray(MethodHandle[]::new);
+            }
+
             if (nestedMappedFields != null) {
                 nestedMappedFields.forEach((prefix, list) -> {
                     NestedMappingInfo nestedMappingInfo = nestedMappingInfos.get(prefix);
@@ -867,19 +881,24 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 final E result = instance != null ? instance : constructor.call();
 
                 for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
+                    for (int j = 0; j < members[i].size(); j++) {
+                        java.lang.reflect.Field member = members[i].get(j);
 
                         // [#935] Avoid setting final fields
                         if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
+                            map(record, result, member, memberSetters[i][j], i);
+                    }
 
-                    for (java.lang.reflect.Method method : methods[i]) {
+                    for (int j = 0; j < methods[i].size(); j++) {
+                        java.lang.reflect.Method method = methods[i].get(j);
                         Class<?> mType = method.getParameterTypes()[0];
                         Object value = record.get(i, mType);
 
                         // [#3082] [#10910] Try mapping nested collection types
                         Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
+                        if (methodSetters[i][j] != null)
+                            invoke(methodSetters[i][j], result, list != null ? list : value);
+                        else if (list != null)
                             method.invoke(result, list);
                         else
                             method.invoke(result, record.get(i, mType));
@@ -918,6 +937,19 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
         }
 
+        private final void map(Record record, Object result, java.lang.reflect.Field member, MethodHandle setter, int index) throws Exception {
+            if (setter != null) {
+                Class<?> mType = member.getType();
+                Object value = record.get(index, mType);
+
+                // [#3082] [#10910] [#11213] Try mapping nested collection types
+                Object list = mType.isPrimitive() ? null : tryConvertToList(value, mType, member.getGenericType());
+                invoke(setter, result, list != null ? list : value);
+            }
+            else
+                map(record, result, member, index);
+        }
+
         private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
             Class<?> mType = member.getType();
 
@@ -995,6 +1027,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     private class ImmutablePOJOMapper extends AbstractDelegateMapper<R, E> {
 
         final Constructor<E>                          constructor;
+        final MethodHandle                            handle;
         final Class<?>[]                              parameterTypes;
         private final boolean                         nested;
         private final NestedMappingInfo[]             nestedMappingInfo;
@@ -1010,6 +1043,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             int size = prefixes().size();
 
             this.constructor = accessible(constructor);
+            this.handle = DefaultRecordMapper.constructor(this.constructor);
             this.parameterTypes = parameterTypes;
             this.nestedMappingInfo = new NestedMappingInfo[size];
             this.propertyIndexes = new Integer[fields.length];
@@ -1122,7 +1156,8 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                Object[] args = nested ? mapNested(record) : mapNonnested(record);
+                return handle != null ? (E) create(handle, args) : constructor.newInstance(args);
             }
             catch (Exception e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
@@ -1195,6 +1230,94 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: MethodHandle utilities
+    // -------------------------------------------------------------------------
+
+    private static final MethodType SETTER      = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * A {@link MethodHandle} that sets a member of type <code>(Object, Object)
+     * void</code>, or <code>null</code> if the member can only be set using
+     * reflection.
+     */
+    private static final MethodHandle setter(java.lang.reflect.Field member) {
+        try {
+            return (member.getModifiers() & Modifier.FINAL) == 0
+                 ? MethodHandles.lookup().unreflectSetter(member).asType(SETTER)
+                 : null;
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A {@link MethodHandle} that invokes a setter of type <code>(Object,
+     * Object) void</code>, or <code>null</code> if the setter can only be
+     * invoked using reflection.
+     */
+    private static final MethodHandle setter(Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asFixedArity().asType(SETTER);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A {@link MethodHandle} that invokes a constructor of type
+     * <code>(Object[]) Object</code>, or <code>null</code> if the constructor
+     * can only be invoked using reflection.
+     */
+    private static final MethodHandle constructor(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(CONSTRUCTOR);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final <E> Callable<E> constructorCall(Constructor<? extends E> constructor) {
+        MethodHandle handle = constructor(constructor);
+
+        if (handle == null)
+            return new ConstructorCall<>(constructor);
+        else
+            return () -> (E) create(handle, Tools.EMPTY_OBJECT);
+    }
+
+    private static final void invoke(MethodHandle setter, Object target, Object value) throws Exception {
+        try {
+            setter.invokeExact(target, value);
+        }
+        catch (Exception | Error e) {
+            throw e;
+        }
+        catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static final Object create(MethodHandle constructor, Object[] args) throws Exception {
+        try {
+            return (Object) constructor.invokeExact(args);
+        }
+        catch (Exception | Error e) {
+            throw e;
+        }
+        catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
     private static <E> E attach(E attachable, Record record) {
         // [#2869] Attach the mapped outcome if it is Attachable and if the context's
         // Settings.attachRecords flag is set
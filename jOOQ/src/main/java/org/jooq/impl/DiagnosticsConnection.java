@@ -37,25 +37,33 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jooq.Configuration;
 import org.jooq.Parser;
 import org.jooq.Queries;
 import org.jooq.RenderContext;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -64,21 +72,32 @@ import org.jooq.tools.jdbc.DefaultConnection;
  */
 final class DiagnosticsConnection extends DefaultConnection {
 
-    // TODO: Make these configurable
-    static final int                      LRU_SIZE_GLOBAL = 50000;
-    static final int                      LRU_SIZE_LOCAL  = 500;
-    static final int                      DUP_SIZE        = 500;
-    static final Map<String, Set<String>> DUPLICATE_SQL   = Collections.synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL));
+    static final String              DATA_DUPLICATE_SQL = "org.jooq.diagnostics.duplicate-sql";
 
-    final Map<String, List<String>>       repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
-    final Configuration                   configuration;
-    final RenderContext                   normalisingRenderer;
-    final Parser                          parser;
-    final DiagnosticsListeners            listeners;
+    final DuplicateIndex             duplicateSQL;
+    final Map<String, List<String>>  repeatedSQL;
+    final ReentrantLock              repeatedSQLLock;
+    final int                        maxStatements;
+    final boolean                    async;
+    final int                        asyncQueueSize;
+    final DiagnosticsSampler         sampler;
+    final Configuration              configuration;
+    final RenderContext              normalisingRenderer;
+    final Parser                     parser;
+    final DiagnosticsListeners       listeners;
 
     DiagnosticsConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
 
+        Settings settings = configuration.settings();
+
+        this.duplicateSQL = duplicateSQL(configuration);
+        this.repeatedSQL = new LRU<>(defaultIfNull(settings.getDiagnosticsRepeatedStatementsLRUCacheSize(), 500));
+        this.repeatedSQLLock = new ReentrantLock();
+        this.maxStatements = defaultIfNull(settings.getDiagnosticsMaxStatementsPerNormalisedStatement(), 500);
+        this.async = TRUE.equals(settings.isDiagnosticsAsync());
+        this.asyncQueueSize = defaultIfNull(settings.getDiagnosticsAsyncQueueSize(), 10000);
+        this.sampler = DiagnosticsSampler.sampler(configuration);
         this.configuration = configuration;
         this.normalisingRenderer = configuration.deriveSettings(s -> s
 
@@ -155,11 +174,45 @@ final class DiagnosticsConnection extends DefaultConnection {
 
     @Override
     public final void close() throws SQLException {
-        repeatedSQL.clear();
+        repeatedSQLLock.lock();
+        try {
+            repeatedSQL.clear();
+        }
+        finally {
+            repeatedSQLLock.unlock();
+        }
+
         configuration.connectionProvider().release(getDelegate());
     }
 
     final String parse(String sql) {
+        return parse(sql, sampler.sample());
+    }
+
+    final String parse(String sql, double weight) {
+        if (weight <= 0.0)
+            return sql;
+        else if (!async)
+            diagnose(sql, weight);
+
+        // Statements that don't fit in the queue are not diagnosed
+        else if (duplicateSQL.pending.incrementAndGet() > asyncQueueSize)
+            duplicateSQL.pending.decrementAndGet();
+        else
+            Async.EXECUTOR.execute(() -> {
+                try {
+                    diagnose(sql, weight);
+                }
+                finally {
+                    duplicateSQL.pending.decrementAndGet();
+                }
+            });
+
+        return sql;
+    }
+
+    private final void diagnose(String sql, double weight) {
+        long start = sampler.adaptive() ? System.nanoTime() : 0L;
         Queries queries;
         String normalised;
 
@@ -171,38 +224,111 @@ final class DiagnosticsConnection extends DefaultConnection {
             normalised = sql;
         }
 
-        Set<String> duplicates;
-        synchronized (DUPLICATE_SQL) {
-            duplicates = duplicates(DUPLICATE_SQL, sql, normalised);
-        }
+        Set<String> duplicates = duplicateSQL.duplicates(sql, normalised, maxStatements);
 
         if (duplicates != null)
-            listeners.duplicateStatements(new DefaultDiagnosticsContext(sql, normalised, duplicates, null));
+            listeners.duplicateStatements(new DefaultDiagnosticsContext(sql, normalised, duplicates, null, weight));
+
+        List<String> repetitions;
+        repeatedSQLLock.lock();
+        try {
+            repetitions = repetitions(repeatedSQL, sql, normalised);
+        }
+        finally {
+            repeatedSQLLock.unlock();
+        }
 
-        List<String> repetitions = repetitions(repeatedSQL, sql, normalised);
+        if (start != 0L)
+            sampler.cost(System.nanoTime() - start);
 
         if (repetitions != null)
-            listeners.repeatedStatements(new DefaultDiagnosticsContext(sql, normalised, null, repetitions));
-
-        return sql;
+            listeners.repeatedStatements(new DefaultDiagnosticsContext(sql, normalised, null, repetitions, weight));
     }
 
-    private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
-        Set<String> v = map.computeIfAbsent(normalised, k -> new HashSet<>());
+    private final List<String> repetitions(Map<String, List<String>> map, String sql, String normalised) {
+        List<String> v = map.computeIfAbsent(normalised, k -> new ArrayList<>());
 
-        if (v.size() >= DUP_SIZE || (v.add(sql) && v.size() > 1))
+        if (v.size() >= maxStatements || (v.add(sql) && v.size() > 1))
             return v;
         else
             return null;
     }
 
-    private List<String> repetitions(Map<String, List<String>> map, String sql, String normalised) {
-        List<String> v = map.computeIfAbsent(normalised, k -> new ArrayList<>());
+    /**
+     * The {@link DuplicateIndex} shared by all connections of a
+     * {@link Configuration}, sized by its {@link Settings} when it's first
+     * needed.
+     */
+    static final DuplicateIndex duplicateSQL(Configuration configuration) {
+        return (DuplicateIndex) configuration.data().computeIfAbsent(DATA_DUPLICATE_SQL, k -> new DuplicateIndex(
+            defaultIfNull(configuration.settings().getDiagnosticsDuplicateStatementsLRUCacheSize(), 50000)
+        ));
+    }
 
-        if (v.size() >= DUP_SIZE || (v.add(sql) && v.size() > 1))
-            return v;
-        else
-            return null;
+    /**
+     * A concurrent index of actual statements per normalised statement, which
+     * is sharded by normalised statement to reduce contention.
+     * <p>
+     * The index also counts the statements of its {@link Configuration} that
+     * are pending asynchronous diagnosis.
+     */
+    static final class DuplicateIndex {
+        private final LRU<Set<String>>[] shards;
+        private final ReentrantLock[]    locks;
+        final AtomicInteger              pending;
+
+        @SuppressWarnings("unchecked")
+        DuplicateIndex(int size) {
+            int n = 1;
+            while (n < 4 * Runtime.getRuntime().availableProcessors())
+                n <<= 1;
+
+            shards = new LRU[n];
+            locks = new ReentrantLock[n];
+            pending = new AtomicInteger();
+            for (int i = 0; i < n; i++) {
+                shards[i] = new LRU<>(Math.max(1, size / n));
+                locks[i] = new ReentrantLock();
+            }
+        }
+
+        final Set<String> duplicates(String sql, String normalised, int maxStatements) {
+            int h = normalised.hashCode();
+            int i = (h ^ (h >>> 16)) & (shards.length - 1);
+            Set<String> v;
+
+            locks[i].lock();
+            try {
+                v = shards[i].computeIfAbsent(normalised, k -> ConcurrentHashMap.newKeySet());
+            }
+            finally {
+                locks[i].unlock();
+            }
+
+            if (v.size() >= maxStatements || (v.add(sql) && v.size() > 1))
+                return v;
+            else
+                return null;
+        }
+    }
+
+    /**
+     * The background executor for asynchronous diagnostics, initialised
+     * lazily.
+     */
+    private static final class Async {
+        static final ExecutorService EXECUTOR;
+
+        static {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "jooq-diagnostics");
+                t.setDaemon(true);
+                return t;
+            });
+
+            executor.allowCoreThreadTimeOut(true);
+            EXECUTOR = executor;
+        }
     }
 
     // See https://stackoverflow.com/a/1953516/521799
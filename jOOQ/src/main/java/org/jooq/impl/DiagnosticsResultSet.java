@@ -69,6 +69,7 @@ final class DiagnosticsResultSet extends DefaultResultSet {
 
     final DiagnosticsConnection connection;
     final String                sql;
+    final double                weight;
     final ResultSetMetaData     meta;
     final BitSet                nullable;
     final BitSet                read;
@@ -79,11 +80,12 @@ final class DiagnosticsResultSet extends DefaultResultSet {
     boolean                     wasPrimitive;
     boolean                     wasNullable;
 
-    DiagnosticsResultSet(ResultSet delegate, String sql, Statement creator, DiagnosticsConnection connection) throws SQLException {
+    DiagnosticsResultSet(ResultSet delegate, String sql, double weight, Statement creator, DiagnosticsConnection connection) throws SQLException {
         super(delegate, creator);
 
         this.connection = connection;
         this.sql = sql;
+        this.weight = weight;
         this.meta = delegate.getMetaData();
         this.columns = meta.getColumnCount();
         this.read = new BitSet(columns);
@@ -629,7 +631,7 @@ final class DiagnosticsResultSet extends DefaultResultSet {
     }
 
     private final DefaultDiagnosticsContext ctx() throws SQLException {
-        DefaultDiagnosticsContext ctx = new DefaultDiagnosticsContext(sql);
+        DefaultDiagnosticsContext ctx = new DefaultDiagnosticsContext(sql, weight);
 
         ctx.resultSet = super.getDelegate();
         ctx.resultSetWrapper = this;
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.tools.StringUtils.defaultIfNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.Configuration;
+import org.jooq.conf.Settings;
+
+/**
+ * A sampler deciding which statements are diagnosed by a
+ * {@link DiagnosticsConnection}.
+ * <p>
+ * {@link #sample()} returns the sampling weight of a statement, i.e. the
+ * inverse of the probability with which it was chosen, or <code>0.0</code> if
+ * the statement should not be diagnosed.
+ *
+ * @author Lukas Eder
+ */
+final class DiagnosticsSampler {
+
+    static final DiagnosticsSampler ALL           = new DiagnosticsSampler(1.0, 0);
+    static final String             DATA_ADAPTIVE = "org.jooq.diagnostics.adaptive-sampler";
+
+    static final long               WINDOW        = TimeUnit.SECONDS.toNanos(1L);
+    static final double             MIN_RATE      = 0.0001;
+
+    final LongAdder                 cost          = new LongAdder();
+    final AtomicBoolean             adapting      = new AtomicBoolean();
+    final int                       budget;
+    volatile double                 rate;
+    volatile long                   windowStart;
+
+    private DiagnosticsSampler(double rate, int budget) {
+        this.rate = rate;
+        this.budget = budget;
+        this.windowStart = System.nanoTime();
+    }
+
+    static final DiagnosticsSampler sampler(Configuration configuration) {
+        Settings settings = configuration.settings();
+        int interval = defaultIfNull(settings.getDiagnosticsSamplingInterval(), 1);
+        int budget = defaultIfNull(settings.getDiagnosticsSamplingCpuBudget(), 0);
+
+        // The adaptive sampler is shared by all connections of a
+        // configuration, as they all share the same CPU budget.
+        if (budget > 0)
+            return (DiagnosticsSampler) configuration.data().computeIfAbsent(
+                DATA_ADAPTIVE, k -> new DiagnosticsSampler(1.0, Math.min(budget, 100))
+            );
+        else if (interval > 1)
+            return new DiagnosticsSampler(1.0 / interval, 0);
+        else
+            return ALL;
+    }
+
+    final boolean adaptive() {
+        return budget > 0;
+    }
+
+    final double sample() {
+        if (adaptive())
+            adapt();
+
+        double r = rate;
+
+        if (r >= 1.0)
+            return 1.0;
+        else if (ThreadLocalRandom.current().nextDouble() < r)
+            return 1.0 / r;
+        else
+            return 0.0;
+    }
+
+    /**
+     * Record the time spent diagnosing a sampled statement.
+     */
+    final void cost(long nanos) {
+        cost.add(nanos);
+    }
+
+    /**
+     * Once per window, scale the sampling rate by the ratio between the CPU
+     * budget and the CPU time that was actually spent on diagnostics.
+     */
+    private final void adapt() {
+        long now = System.nanoTime();
+        long elapsed = now - windowStart;
+
+        if (elapsed < WINDOW || !adapting.compareAndSet(false, true))
+            return;
+
+        try {
+            double available = (double) elapsed * Runtime.getRuntime().availableProcessors();
+            double used = cost.sumThenReset() / available;
+            double target = budget / 100.0;
+
+            if (used <= 0.0)
+                rate = Math.min(1.0, rate * 2.0);
+            else
+                rate = Math.max(MIN_RATE, Math.min(1.0, rate * target / used));
+
+            windowStart = now;
+        }
+        finally {
+            adapting.set(false);
+        }
+    }
+}
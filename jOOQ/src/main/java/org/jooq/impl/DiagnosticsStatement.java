@@ -59,7 +59,11 @@ final class DiagnosticsStatement extends DefaultCallableStatement {
 
     @Override
     public final ResultSet executeQuery(String sql) throws SQLException {
-        return new DiagnosticsResultSet(super.executeQuery(connection.parse(sql)), sql, this, connection);
+        double weight = connection.sampler.sample();
+        ResultSet result = super.executeQuery(connection.parse(sql, weight));
+
+        // Result sets of statements that are not sampled are not diagnosed either
+        return weight > 0.0 ? new DiagnosticsResultSet(result, sql, weight, this, connection) : result;
     }
 
     @Override
@@ -64,9 +64,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.jooq.AlterSequenceFlagsStep;
 import org.jooq.Catalog;
@@ -102,14 +106,16 @@ import org.jooq.tools.StringUtils;
  */
 final class Diff {
 
-    private static final Set<SQLDialect> NO_SUPPORT_PK_NAMES = SQLDialect.supportedBy(IGNITE, MARIADB, MYSQL);
+    private static final Set<SQLDialect>  NO_SUPPORT_PK_NAMES = SQLDialect.supportedBy(IGNITE, MARIADB, MYSQL);
+    private static final int              SCREEN_CHUNK_SIZE   = 64;
 
-    private final MigrationConfiguration migrateConf;
-    private final DDLExportConfiguration exportConf;
-    private final DSLContext             ctx;
-    private final Meta                   meta1;
-    private final Meta                   meta2;
-    private final DDL                    ddl;
+    private final MigrationConfiguration  migrateConf;
+    private final DDLExportConfiguration  exportConf;
+    private final DSLContext              ctx;
+    private final Meta                    meta1;
+    private final Meta                    meta2;
+    private final DDL                     ddl;
+    private final Map<Table<?>, Table<?>> unchanged;
 
     Diff(Configuration configuration, MigrationConfiguration migrateConf, Meta meta1, Meta meta2) {
         this.migrateConf = migrateConf;
@@ -118,12 +124,98 @@ final class Diff {
         this.meta1 = meta1;
         this.meta2 = meta2;
         this.ddl = new DDL(ctx, exportConf);
+        this.unchanged = new IdentityHashMap<>();
     }
 
     final Queries queries() {
+        screenTables();
         return ctx.queries(appendCatalogs(new DiffResult(), meta1.getCatalogs(), meta2.getCatalogs()).queries);
     }
 
+    /**
+     * Find the pairs of tables of the same name that don't produce any
+     * migration queries, in parallel.
+     * <p>
+     * Comparing two tables is independent of other tables, except for the
+     * {@link DiffResult#droppedFks} that are shared by the whole diff. A
+     * comparison that doesn't produce anything in isolation won't produce
+     * anything in the context of the whole diff either, so these pairs can be
+     * skipped when producing the queries sequentially in a deterministic
+     * order.
+     */
+    private final void screenTables() {
+        if (Runtime.getRuntime().availableProcessors() <= 1)
+            return;
+        else if (!concurrentReads(meta1) || !concurrentReads(meta2))
+            return;
+
+        List<Table<?>[]> pairs = new ArrayList<>();
+        append(new DiffResult(), meta1.getCatalogs(), meta2.getCatalogs(), null, null, null, (r1, c1, c2) -> {
+            append(r1, c1.getSchemas(), c2.getSchemas(), null, null, null, (r2, s1, s2) -> {
+                append(r2, s1.getTables(), s2.getTables(), null, null, null, (r3, t1, t2) -> {
+                    pairs.add(new Table<?>[] { t1, t2 });
+                });
+            });
+        });
+
+        if (pairs.size() <= SCREEN_CHUNK_SIZE)
+            return;
+
+        // Objects may be initialised lazily, which must happen on this thread
+        for (Table<?>[] pair : pairs) {
+            initialise(pair[0]);
+            initialise(pair[1]);
+        }
+
+        Executor executor = ctx.configuration().executorProvider().provide();
+        List<CompletableFuture<boolean[]>> futures = new ArrayList<>();
+
+        for (int i = 0; i < pairs.size(); i += SCREEN_CHUNK_SIZE) {
+            List<Table<?>[]> chunk = pairs.subList(i, Math.min(i + SCREEN_CHUNK_SIZE, pairs.size()));
+
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                boolean[] result = new boolean[chunk.size()];
+
+                for (int j = 0; j < result.length; j++) {
+                    try {
+                        DiffResult r = new DiffResult();
+                        MERGE_TABLE.merge(r, chunk.get(j)[0], chunk.get(j)[1]);
+                        result[j] = r.queries.isEmpty() && r.droppedFks.isEmpty();
+                    }
+
+                    // Any errors are reported when merging the tables again
+                    catch (RuntimeException e) {
+                        result[j] = false;
+                    }
+                }
+
+                return result;
+            }, executor));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            boolean[] result = futures.get(i).join();
+
+            for (int j = 0; j < result.length; j++)
+                if (result[j])
+                    unchanged.put(pairs.get(i * SCREEN_CHUNK_SIZE + j)[0], pairs.get(i * SCREEN_CHUNK_SIZE + j)[1]);
+        }
+    }
+
+    private static final boolean concurrentReads(Meta meta) {
+        return meta instanceof AbstractMeta && ((AbstractMeta) meta).concurrentReads();
+    }
+
+    private static final void initialise(Table<?> table) {
+        table.getPrimaryKey();
+        table.getReferences();
+        table.getChecks();
+        table.getIndexes();
+
+        for (UniqueKey<?> key : table.getKeys())
+            key.getReferences();
+    }
+
     private final DiffResult appendCatalogs(DiffResult result, List<Catalog> l1, List<Catalog> l2) {
         return append(result, l1, l2, null,
 
@@ -314,7 +406,10 @@ final class Diff {
     };
 
     private final DiffResult appendTables(DiffResult result, List<? extends Table<?>> l1, List<? extends Table<?>> l2) {
-        return append(result, l1, l2, null, createTable(), dropTable(), MERGE_TABLE);
+        return append(result, l1, l2, null, createTable(), dropTable(), (r, t1, t2) -> {
+            if (unchanged.get(t1) != t2)
+                MERGE_TABLE.merge(r, t1, t2);
+        });
     }
 
     private final List<UniqueKey<?>> removePrimary(List<? extends UniqueKey<?>> list) {
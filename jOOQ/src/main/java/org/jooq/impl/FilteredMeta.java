@@ -106,6 +106,11 @@ final class FilteredMeta extends AbstractMeta {
         this.indexFilter = indexFilter;
     }
 
+    @Override
+    final boolean concurrentReads() {
+        return meta.concurrentReads();
+    }
+
     @Override
     final List<Catalog> getCatalogs0() {
         List<Catalog> result = new ArrayList<>();
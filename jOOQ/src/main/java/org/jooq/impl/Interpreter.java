@@ -65,11 +65,13 @@ import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.jooq.Catalog;
@@ -128,6 +130,9 @@ final class Interpreter {
     private boolean                                              delayForeignKeyDeclarations;
     private final Deque<DelayedForeignKey>                       delayedForeignKeyDeclarations;
 
+    // The number of renamed objects, invalidating MutableNamedList indexes
+    private int                                                  renames;
+
     // Caches
     private final Map<Name, MutableCatalog.InterpretedCatalog>   interpretedCatalogs    = new HashMap<>();
     private final Map<Name, MutableSchema.InterpretedSchema>     interpretedSchemas     = new HashMap<>();
@@ -149,6 +154,201 @@ final class Interpreter {
         this.defaultSchema = new MutableSchema(NO_NAME, defaultCatalog);
     }
 
+    /**
+     * Create a deep copy of an interpreter's state.
+     * <p>
+     * The copy shares only immutable values, such as {@link DataType},
+     * {@link Condition}, or {@link Comment}, with its source. Any delayed
+     * foreign key declarations are applied before copying.
+     */
+    private Interpreter(Interpreter source) {
+        source.applyDelayedForeignKeys();
+
+        this.configuration = source.configuration;
+        this.delayForeignKeyDeclarations = source.delayForeignKeyDeclarations;
+        this.delayedForeignKeyDeclarations = new ArrayDeque<>();
+        this.caseSensitivity = source.caseSensitivity;
+        this.locale = source.locale;
+
+        Map<MutableNamed, MutableNamed> copies = new IdentityHashMap<>();
+        for (Entry<Name, MutableCatalog> e : source.catalogs.entrySet())
+            catalogs.put(e.getKey(), copy(copies, e.getValue()));
+
+        // Foreign keys may reference keys of any schema
+        for (MutableCatalog catalog : source.catalogs.values())
+            for (MutableSchema schema : catalog.schemas)
+                for (MutableTable table : schema.tables)
+                    copyForeignKeys(copies, table);
+
+        this.defaultCatalog = copy(copies, source.defaultCatalog);
+        this.defaultSchema = copy(copies, source.defaultSchema);
+        this.currentSchema = source.currentSchema == null ? null : copy(copies, source.currentSchema);
+    }
+
+    /**
+     * Create a deep copy of this interpreter, which can be advanced
+     * independently of this one.
+     */
+    final Interpreter copy() {
+        return new Interpreter(this);
+    }
+
+    /**
+     * Complete the current migration and reset any session state (e.g. the
+     * current schema), as if a new interpreter was started from the resulting
+     * schema.
+     */
+    final void resetSession() {
+        applyDelayedForeignKeys();
+
+        currentSchema = null;
+        delayForeignKeyDeclarations = TRUE.equals(configuration.settings().isInterpreterDelayForeignKeyDeclarations());
+    }
+
+    @SuppressWarnings("unchecked")
+    private final <N extends MutableNamed> N copy(Map<MutableNamed, MutableNamed> copies, N source) {
+        MutableNamed result = copies.get(source);
+
+        if (result == null) {
+            if (source instanceof MutableCatalog)
+                result = copyCatalog(copies, (MutableCatalog) source);
+
+            // Schemas that aren't contained in their catalogs anymore (e.g. a
+            // dropped default schema) are copied detached
+            else if (source instanceof MutableSchema) {
+                MutableSchema s = (MutableSchema) source;
+                MutableSchema c = copySchema(copies, copy(copies, s.catalog), s);
+                c.catalog.schemas.remove(c);
+                result = c;
+            }
+            else
+                throw new IllegalStateException("Unsupported object: " + source);
+        }
+
+        return (N) result;
+    }
+
+    private final MutableCatalog copyCatalog(Map<MutableNamed, MutableNamed> copies, MutableCatalog source) {
+        MutableCatalog result = new MutableCatalog(source.name());
+        result.comment(source.comment());
+        copies.put(source, result);
+
+        for (MutableSchema schema : source.schemas)
+            copySchema(copies, result, schema);
+
+        return result;
+    }
+
+    private final MutableSchema copySchema(Map<MutableNamed, MutableNamed> copies, MutableCatalog catalog, MutableSchema source) {
+        MutableSchema result = new MutableSchema(source.name(), catalog);
+        result.comment(source.comment());
+        copies.put(source, result);
+
+        for (MutableDomain domain : source.domains) {
+            MutableDomain d = new MutableDomain(domain.name(), result, domain.dataType);
+            d.comment(domain.comment());
+            copies.put(domain, d);
+
+            for (MutableCheck check : domain.checks)
+                d.checks.add(copyCheck(null, check));
+        }
+
+        for (MutableSequence sequence : source.sequences) {
+            MutableSequence s = new MutableSequence(sequence.name(), result);
+            s.comment(sequence.comment());
+            s.startWith = sequence.startWith;
+            s.incrementBy = sequence.incrementBy;
+            s.minvalue = sequence.minvalue;
+            s.maxvalue = sequence.maxvalue;
+            s.cycle = sequence.cycle;
+            s.cache = sequence.cache;
+        }
+
+        for (MutableTable table : source.tables)
+            copyTable(copies, result, table);
+
+        return result;
+    }
+
+    private final MutableTable copyTable(Map<MutableNamed, MutableNamed> copies, MutableSchema schema, MutableTable source) {
+        MutableTable result = new MutableTable(source.name(), schema, source.comment(), source.options);
+        copies.put(source, result);
+
+        for (MutableField field : source.fields) {
+            MutableField f = new MutableField(field.name(), result, field.type);
+            f.comment(field.comment());
+            result.fields.add(f);
+            copies.put(field, f);
+
+            MutableDomain domain = field.domain == null ? null : (MutableDomain) copies.get(field.domain);
+            if (f.domain != domain) {
+                if (f.domain != null)
+                    f.domain.fields.remove(f);
+                if ((f.domain = domain) != null)
+                    domain.fields.add(f);
+            }
+        }
+
+        if (source.primaryKey != null)
+            result.primaryKey = copyUniqueKey(copies, result, source.primaryKey);
+
+        for (MutableUniqueKey uk : source.uniqueKeys)
+            result.uniqueKeys.add(copyUniqueKey(copies, result, uk));
+
+        for (MutableCheck check : source.checks)
+            result.checks.add(copyCheck(result, check));
+
+        for (MutableIndex index : source.indexes) {
+            MutableIndex i = new MutableIndex(index.name(), result, map(index.fields, sf -> {
+                MutableSortField s = new MutableSortField((MutableField) copies.get(sf.field), sf.sort);
+                if (!s.name().equals(sf.name()))
+                    s.name(sf.name());
+
+                return s;
+            }), index.unique);
+            i.comment(index.comment());
+            result.indexes.add(i);
+        }
+
+        return result;
+    }
+
+    private final MutableUniqueKey copyUniqueKey(Map<MutableNamed, MutableNamed> copies, MutableTable table, MutableUniqueKey source) {
+        MutableUniqueKey result = new MutableUniqueKey(source.name(), table, copyFields(copies, source.fields), source.enforced);
+        result.comment(source.comment());
+        copies.put(source, result);
+        return result;
+    }
+
+    private final MutableCheck copyCheck(MutableTable table, MutableCheck source) {
+        MutableCheck result = new MutableCheck(source.name(), table, source.condition, source.enforced);
+        result.comment(source.comment());
+        return result;
+    }
+
+    private final void copyForeignKeys(Map<MutableNamed, MutableNamed> copies, MutableTable source) {
+        MutableTable table = (MutableTable) copies.get(source);
+
+        for (MutableForeignKey fk : source.foreignKeys) {
+            MutableForeignKey f = new MutableForeignKey(
+                fk.name(),
+                table,
+                copyFields(copies, fk.fields),
+                (MutableUniqueKey) copies.get(fk.referencedKey),
+                copyFields(copies, fk.referencedFields),
+                fk.onDelete,
+                fk.onUpdate,
+                fk.enforced
+            );
+            f.comment(fk.comment());
+            table.foreignKeys.add(f);
+        }
+    }
+
+    private final List<MutableField> copyFields(Map<MutableNamed, MutableNamed> copies, List<MutableField> fields) {
+        return map(fields, f -> (MutableField) copies.get(f));
+    }
+
     final Meta meta() {
         applyDelayedForeignKeys();
 
@@ -397,14 +597,7 @@ final class Interpreter {
             cascade(table.uniqueKeys, null, check);
         }
 
-        Iterator<MutableTable> it = tables.iterator();
-
-        while (it.hasNext()) {
-            if (it.next().nameEquals(table.name())) {
-                it.remove();
-                break;
-            }
-        }
+        tables.remove(table);
     }
 
     private final void dropColumns(MutableTable table, List<MutableField> fields, Cascade cascade) {
@@ -722,11 +915,13 @@ final class Interpreter {
     private final void addField(MutableTable existing, int index, UnqualifiedName name, DataType<?> dataType) {
         MutableField field = new MutableField(name, existing, dataType);
 
-        for (MutableField mf : existing.fields)
-            if (mf.nameEquals(field.name()))
-                throw columnAlreadyExists(field.qualifiedName());
-            else if (mf.type.identity() && dataType.identity())
-                throw new DataDefinitionException("Table can only have one identity: " + mf.qualifiedName());
+        if (find(existing.fields, field.name()) != null)
+            throw columnAlreadyExists(field.qualifiedName());
+
+        if (dataType.identity())
+            for (MutableField mf : existing.fields)
+                if (mf.type.identity())
+                    throw new DataDefinitionException("Table can only have one identity: " + mf.qualifiedName());
 
         if (index == Integer.MAX_VALUE)
             existing.fields.add(field);
@@ -1350,31 +1545,28 @@ final class Interpreter {
     }
 
     private static final <M extends MutableNamed> M find(List<? extends M> list, Named named) {
-        UnqualifiedName n = (UnqualifiedName) named.getUnqualifiedName();
+        return find(list, (UnqualifiedName) named.getUnqualifiedName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <M extends MutableNamed> M find(List<? extends M> list, UnqualifiedName name) {
+        if (list instanceof MutableNamedList)
+            return ((MutableNamedList<M>) list).get(name);
 
-        // TODO Avoid O(N) lookups. Use Maps instead
         for (M m : list)
-            if ((m = find(m, n)) != null)
+            if ((m = find(m, name)) != null)
                 return m;
 
         return null;
     }
 
     private static final int indexOrFail(List<? extends MutableNamed> list, Named named) {
-        int result = -1;
+        MutableNamed m = find(list, named);
 
-        // TODO Avoid O(N) lookups. Use Maps instead
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).nameEquals((UnqualifiedName) named.getUnqualifiedName())) {
-                result = i;
-                break;
-            }
-        }
-
-        if (result == -1)
+        if (m == null)
             throw notExists(named);
 
-        return result;
+        return list.indexOf(m);
     }
 
     private static final InterpreterNameLookupCaseSensitivity caseSensitivity(Configuration configuration) {
@@ -1412,9 +1604,31 @@ final class Interpreter {
     // Data model
     // -------------------------------------------------------------------------
 
+    /**
+     * The lookup key of a name, according to the
+     * {@link InterpreterNameLookupCaseSensitivity}, such that two names are
+     * equal if their keys are equal.
+     */
+    private final String lookupKey(UnqualifiedName n) {
+        switch (caseSensitivity) {
+            case ALWAYS:
+                return n.last();
+
+            case WHEN_QUOTED:
+                return normaliseNameCase(configuration, n.last(), n.quoted() == QUOTED, locale);
+
+            case NEVER:
+                return n.last().toUpperCase(locale);
+
+            case DEFAULT:
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
     private abstract class MutableNamed {
         private UnqualifiedName                      name;
-        private String                               upper;
+        private String                               key;
         private Comment                              comment;
 
         MutableNamed(UnqualifiedName name) {
@@ -1423,8 +1637,8 @@ final class Interpreter {
 
         MutableNamed(UnqualifiedName name, Comment comment) {
             this.comment = comment;
-
-            name(name);
+            this.name = name;
+            this.key = lookupKey(name);
         }
 
         Name qualifiedName() {
@@ -1440,9 +1654,16 @@ final class Interpreter {
             return name;
         }
 
+        String key() {
+            return key;
+        }
+
         void name(UnqualifiedName n) {
             this.name = n;
-            this.upper = name.last().toUpperCase(locale);
+            this.key = lookupKey(n);
+
+            // The lists containing this object are re-indexed lazily
+            renames++;
         }
 
         Comment comment() {
@@ -1454,21 +1675,7 @@ final class Interpreter {
         }
 
         boolean nameEquals(UnqualifiedName other) {
-            switch (caseSensitivity) {
-                case ALWAYS:
-                    return name.last().equals(other.last());
-
-                case WHEN_QUOTED:
-                    return normaliseNameCase(configuration, name.last(), name.quoted() == QUOTED, locale).equals(
-                           normaliseNameCase(configuration, other.last(), other.quoted() == QUOTED, locale));
-
-                case NEVER:
-                    return upper.equalsIgnoreCase(other.last().toUpperCase(locale));
-
-                case DEFAULT:
-                default:
-                    throw new IllegalStateException();
-            }
+            return key.equals(lookupKey(other));
         }
 
         abstract MutableNamed parent();
@@ -2097,12 +2304,69 @@ final class Interpreter {
         }
     }
 
+    /**
+     * A list of named objects, which indexes its elements by their
+     * {@link #lookupKey(UnqualifiedName)} for constant time lookups by name.
+     * <p>
+     * If several elements share the same key (e.g. unnamed constraints), the
+     * first one is indexed. Renaming an element invalidates all indexes, which
+     * are then rebuilt on their next lookup.
+     */
     private final class MutableNamedList<N extends MutableNamed> extends AbstractList<N> {
-        private final List<N> delegate = new ArrayList<>();
+        private final List<N>        delegate = new ArrayList<>();
+        private final Map<String, N> index    = new HashMap<>();
+        private int                  indexed  = renames;
+
+        final N get(UnqualifiedName name) {
+            if (indexed != renames)
+                reindex();
+
+            return index.get(lookupKey(name));
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            for (int i = 0; i < delegate.size(); i++)
+                if (delegate.get(i) == o)
+                    return i;
+
+            return -1;
+        }
+
+        private final void reindex() {
+            index.clear();
+
+            for (N n : delegate)
+                index.putIfAbsent(n.key(), n);
+
+            indexed = renames;
+        }
+
+        private final void index(N n) {
+            if (indexed == renames) {
+                N existing = index.putIfAbsent(n.key(), n);
+
+                if (existing != null && indexOf(n) < indexOf(existing))
+                    index.put(n.key(), n);
+            }
+        }
+
+        private final void unindex(N n) {
+            if (indexed == renames && index.get(n.key()) == n) {
+                index.remove(n.key());
+
+                for (N other : delegate) {
+                    if (other.key().equals(n.key())) {
+                        index.put(other.key(), other);
+                        break;
+                    }
+                }
+            }
+        }
 
         @Override
-        public N get(int index) {
-            return delegate.get(index);
+        public N get(int i) {
+            return delegate.get(i);
         }
 
         @Override
@@ -2111,18 +2375,23 @@ final class Interpreter {
         }
 
         @Override
-        public N set(int index, N element) {
-            return delegate.set(index, element);
+        public N set(int i, N element) {
+            N previous = delegate.set(i, element);
+            unindex(previous);
+            index(element);
+            return previous;
         }
 
         @Override
-        public void add(int index, N element) {
-            delegate.add(index, element);
+        public void add(int i, N element) {
+            delegate.add(i, element);
+            index(element);
         }
 
         @Override
-        public N remove(int index) {
-            N removed = delegate.remove(index);
+        public N remove(int i) {
+            N removed = delegate.remove(i);
+            unindex(removed);
             removed.onDrop();
             return removed;
         }
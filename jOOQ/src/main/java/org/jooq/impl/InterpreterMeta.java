@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jooq.Catalog;
+import org.jooq.Configuration;
+import org.jooq.Meta;
+import org.jooq.Queries;
+import org.jooq.Query;
+
+/**
+ * A {@link Meta} implementation backed by an {@link Interpreter}, which
+ * applies migrations incrementally.
+ * <p>
+ * Applying a migration to the most recent {@link InterpreterMeta} of a lineage
+ * advances that lineage's {@link Interpreter} by the migration only, rather
+ * than re-interpreting the {@link #ddl()} of the previous {@link Meta}. Previous
+ * {@link Meta} instances remain usable. Their state is restored lazily on
+ * access, from the nearest frozen checkpoint copy of the interpreter, by
+ * replaying the migrations applied since. A checkpoint is taken every
+ * {@link #CHECKPOINT_INTERVAL} migrations, so a long history of migrations
+ * doesn't have to be replayed from its beginning.
+ * <p>
+ * Applying a migration to any other {@link Meta} of a lineage forks a new
+ * lineage from a copy of that {@link Meta}'s state.
+ *
+ * @author Lukas Eder
+ */
+final class InterpreterMeta extends AbstractMeta {
+
+    static final int                   CHECKPOINT_INTERVAL = 32;
+
+    private final Lineage              lineage;
+    private final InterpreterMeta      parent;
+    private final Queries              migration;
+    private final int                  distance;
+
+    // The frozen state of this meta, guarded by lineage.lock. The root of a
+    // lineage cannot be replayed and is thus referenced strongly.
+    private Interpreter                pinned;
+    private SoftReference<Interpreter> frozen;
+
+    InterpreterMeta(Configuration configuration, Interpreter interpreter) {
+        this(configuration, new Lineage(new ReentrantLock(), interpreter), null, null, 0);
+    }
+
+    private InterpreterMeta(Configuration configuration, Lineage lineage, InterpreterMeta parent, Queries migration, int distance) {
+        super(configuration);
+
+        this.lineage = lineage;
+        this.parent = parent;
+        this.migration = migration;
+        this.distance = distance;
+
+        lineage.head = this;
+    }
+
+    @Override
+    final List<Catalog> getCatalogs0() {
+        lineage.lock.lock();
+
+        try {
+            return materialize().meta().getCatalogs();
+        }
+        finally {
+            lineage.lock.unlock();
+        }
+    }
+
+    @Override
+    public final Meta apply(Queries m) {
+        lineage.lock.lock();
+
+        try {
+            if (lineage.head == this) {
+                if (frozen() == null && (parent == null || distance >= CHECKPOINT_INTERVAL))
+                    freeze(lineage.interpreter.copy());
+
+                // Should the migration fail, the interpreter's state is lost.
+                // This meta can still be restored by replaying its lineage.
+                Interpreter interpreter = lineage.interpreter;
+                lineage.interpreter = null;
+                lineage.head = null;
+
+                accept(interpreter, m);
+                lineage.interpreter = interpreter;
+                return new InterpreterMeta(configuration(), lineage, this, m, frozen() != null ? 1 : distance + 1);
+            }
+            else {
+                Interpreter interpreter = materialize().copy();
+
+                accept(interpreter, m);
+                return new InterpreterMeta(configuration(), new Lineage(lineage.lock, interpreter), this, m, 1);
+            }
+        }
+        finally {
+            lineage.lock.unlock();
+        }
+    }
+
+    private static final void accept(Interpreter interpreter, Queries m) {
+        interpreter.resetSession();
+
+        for (Query query : m)
+            interpreter.accept(query);
+    }
+
+    private final Interpreter frozen() {
+        return pinned != null ? pinned : frozen != null ? frozen.get() : null;
+    }
+
+    private final Interpreter freeze(Interpreter interpreter) {
+        if (parent == null)
+            pinned = interpreter;
+        else
+            frozen = new SoftReference<>(interpreter);
+
+        return interpreter;
+    }
+
+    /**
+     * Get an interpreter holding this meta's state, which is not advanced by
+     * any further migrations.
+     */
+    private final Interpreter materialize() {
+        Interpreter result = frozen();
+
+        if (result != null)
+            return result;
+        else if (lineage.head == this)
+            return freeze(lineage.interpreter.copy());
+
+        Deque<InterpreterMeta> replay = new ArrayDeque<>();
+        InterpreterMeta m = this;
+
+        while ((result = m.frozen()) == null) {
+            replay.push(m);
+
+            if ((m = m.parent) == null)
+                throw new IllegalStateException("No checkpoint found to restore meta from");
+        }
+
+        result = result.copy();
+        while (!replay.isEmpty())
+            accept(result, replay.pop().migration);
+
+        return freeze(result);
+    }
+
+    /**
+     * The state shared by all {@link InterpreterMeta} instances that are
+     * derived from one another by applying migrations.
+     */
+    private static final class Lineage {
+        final ReentrantLock lock;
+        Interpreter         interpreter;
+        InterpreterMeta     head;
+
+        Lineage(ReentrantLock lock, Interpreter interpreter) {
+            this.lock = lock;
+            this.interpreter = interpreter;
+        }
+    }
+}
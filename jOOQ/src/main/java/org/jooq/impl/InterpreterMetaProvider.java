@@ -94,7 +94,7 @@ final class InterpreterMetaProvider implements MetaProvider {
             for (Query query : queries)
                 interpreter.accept(query);
 
-        return interpreter.meta();
+        return new InterpreterMeta(configuration, interpreter);
     }
 
     private final void loadSource(DSLContext ctx, Source source, Interpreter interpreter) {
@@ -42,6 +42,7 @@ import static java.lang.Boolean.FALSE;
 import static org.jooq.SQLDialect.MARIADB;
 // ...
 import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
@@ -57,19 +58,31 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import javax.xml.bind.DatatypeConverter;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.ExecuteContext;
 import org.jooq.Field;
@@ -159,6 +172,8 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private boolean                      bulkCopy;
+    private int                          parallelism                      = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -188,6 +203,11 @@ final class LoaderImpl<R extends Record> implements
     private int                          uncommitted;
     private final List<LoaderError>      errors;
 
+    // Parallel execution data
+    // -----------------------
+    private Pipeline                     pipeline;
+    private int                          rowIndex;
+
     LoaderImpl(Configuration configuration, Table<R> table) {
         this.configuration = configuration;
         this.table = table;
@@ -298,6 +318,18 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkCopy() {
+        bulkCopy = true;
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -679,6 +711,8 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+        if (bulkCopy && onDuplicate != ON_DUPLICATE_KEY_ERROR)
+            throw new LoaderConfigurationException("Cannot apply bulk copy with onDuplicateKey flags. Turn off either flag.");
     }
 
     private final void executeJSON() {
@@ -760,10 +794,26 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+
+        // A single connection cannot be shared by several workers, and
+        // COMMIT_ALL can only be honoured atomically by a single connection
+        if (parallelism > 1 && commit != COMMIT_ALL && !(configuration.connectionProvider() instanceof DefaultConnectionProvider)) {
+            List<Connection> connections = acquireDistinct(configuration.connectionProvider());
+
+            if (connections != null) {
+                executeParallel(iterator, connections);
+                return;
+            }
+        }
+
         configuration.dsl().connection(connection -> {
             Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
-            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+            if (bulkCopy && c.family() == POSTGRES && PostgresCopy.supported(connection)) {
+                executeCopy(iterator, c.dsl(), connection);
+            }
+
+            else if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
                 executeSQL(iterator, c.dsl());
             }
 
@@ -782,81 +832,84 @@ final class LoaderImpl<R extends Record> implements
         Object[] row = null;
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
+        InsertQuery<R> template = null;
         boolean newRecord = false;
 
+        // The INSERT statement never changes in batch mode, so converted bind
+        // values can be batched directly onto a single template statement.
+        // But beware of SQL dialects that tend to need very explicit casting of
+        // bind values (e.g. Firebird), or emulate ON DUPLICATE KEY clauses
+        // with repeated bind values
+        boolean fastBatch = batch != BATCH_NONE && bulk == BULK_NONE && onDuplicate == ON_DUPLICATE_KEY_ERROR;
+
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
+                    row = prepare(row);
                     rowCtx.row(row);
                     if (onRowStart != null) {
                         onRowStart.row(rowCtx);
                         row = rowCtx.row();
                     }
 
-                    // TODO: In batch mode, we can probably optimise this by not creating
-                    // new statements every time, just to convert bind values to their
-                    // appropriate target types. But beware of SQL dialects that tend to
-                    // need very explicit casting of bind values (e.g. Firebird)
                     processed++;
                     unexecuted++;
                     uncommitted++;
 
-                    if (insert == null)
-                        insert = ctx.insertQuery(table);
+                    Object[] values = null;
 
-                    if (newRecord) {
-                        newRecord = false;
-                        insert.newRecord();
+                    if (fastBatch) {
+                        values = bindValues(row);
+
+                        if (template == null) {
+                            template = ctx.insertQuery(table);
+
+                            for (int i = 0; i < row.length; i++)
+                                if (i < fields.length && fields[i] != null)
+                                    addValue0(template, fields[i], row[i]);
+
+                            // Fields may be mapped several times, or bind values may be inlined
+                            if (template.getBindValues().size() != values.length) {
+                                fastBatch = false;
+                                values = null;
+                            }
+                        }
                     }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
+                    if (values == null) {
+                        if (insert == null)
+                            insert = ctx.insertQuery(table);
 
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
+                        if (newRecord) {
+                            newRecord = false;
+                            insert.newRecord();
+                        }
 
                         for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
-                    }
+                            if (i < fields.length && fields[i] != null)
+                                addValue0(insert, fields[i], row[i]);
 
-                    // [#5200]  When the primary key is not supplied in the data,
-                    //          we'll assume it uses an identity, and there will never be duplicates
-                    // [#10358] TODO: The above should be moved inside InsertQueryImpl
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
-                        insert.onDuplicateKeyIgnore(true);
-                    }
+                        // TODO: This is only supported by some dialects. Let other
+                        // dialects execute a SELECT and then either an INSERT or UPDATE
+                        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+                            insert.onDuplicateKeyUpdate(true);
+
+                            for (int i = 0; i < row.length; i++)
+                                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                                    addValueForUpdate0(insert, fields[i], row[i]);
+                        }
 
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                        // [#5200]  When the primary key is not supplied in the data,
+                        //          we'll assume it uses an identity, and there will never be duplicates
+                        // [#10358] TODO: The above should be moved inside InsertQueryImpl
+                        // [#7253]  Use native onDuplicateKeyIgnore() support
+                        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE && primaryKey.cardinality() > 0) {
+                            insert.onDuplicateKeyIgnore(true);
+                        }
+
+                        // Don't do anything. Let the execution fail
+                        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                    }
 
                     try {
                         if (bulk != BULK_NONE) {
@@ -868,9 +921,9 @@ final class LoaderImpl<R extends Record> implements
 
                         if (batch != BATCH_NONE) {
                             if (bind == null)
-                                bind = ctx.batch(insert);
+                                bind = ctx.batch(values != null ? template : insert);
 
-                            bind.bind(insert.getBindValues().toArray());
+                            bind.bind(values != null ? values : insert.getBindValues().toArray());
                             insert = null;
 
                             if (batch == BATCH_ALL || processed % (bulkAfter * batchAfter) != 0)
@@ -907,7 +960,7 @@ final class LoaderImpl<R extends Record> implements
                                 commit();
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, row, rowIndex(), insert));
                         ignored += unexecuted;
                         unexecuted = 0;
 
@@ -937,7 +990,7 @@ final class LoaderImpl<R extends Record> implements
                     unexecuted = 0;
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                    errors.add(new LoaderErrorImpl(e, row, rowIndex(), insert));
                     ignored += unexecuted;
                     unexecuted = 0;
                 }
@@ -953,7 +1006,154 @@ final class LoaderImpl<R extends Record> implements
             // execution:
         }
 
-        // Rollback on errors in COMMIT_ALL mode
+        commitOrRollbackAll();
+    }
+
+    /**
+     * Stream rows into a PostgreSQL <code>COPY .. FROM STDIN</code> statement
+     * per bulk of rows.
+     */
+    private final void executeCopy(Iterator<? extends Object[]> iterator, DSLContext ctx, Connection connection) {
+        Object[] row = null;
+        String sql = null;
+        PostgresCopy copy = null;
+
+        execution: {
+            try {
+                rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+                    try {
+                        row = prepare(row);
+                        rowCtx.row(row);
+                        if (onRowStart != null) {
+                            onRowStart.row(rowCtx);
+                            row = rowCtx.row();
+                        }
+
+                        processed++;
+                        unexecuted++;
+                        uncommitted++;
+
+                        try {
+                            if (sql == null)
+                                sql = copySQL(ctx, row);
+                            if (copy == null)
+                                copy = new PostgresCopy(connection, sql);
+
+                            copy.row(copyValues(row));
+
+                            if (bulk != BULK_AFTER || processed % bulkAfter != 0)
+                                continue rows;
+
+                            long rowcount = copy.end();
+                            copy = null;
+
+                            stored += rowcount;
+                            ignored += unexecuted - rowcount;
+                            executed++;
+                            unexecuted = 0;
+
+                            if (commit == COMMIT_AFTER && executed % commitAfter == 0)
+                                commit();
+                        }
+                        catch (SQLException e) {
+                            if (copy != null)
+                                copy.cancel();
+
+                            copy = null;
+                            errors.add(new LoaderErrorImpl(Tools.translate(sql, e), row, rowIndex(), sql == null ? null : ctx.query(sql)));
+                            ignored += unexecuted;
+                            unexecuted = 0;
+
+                            if (onError == ON_ERROR_ABORT)
+                                break execution;
+                        }
+                    }
+                    finally {
+                        if (onRowEnd != null)
+                            onRowEnd.row(rowCtx);
+                    }
+                    // rows:
+                }
+
+                // Execute remaining copy
+                if (copy != null) {
+                    try {
+                        long rowcount = copy.end();
+                        copy = null;
+
+                        stored += rowcount;
+                        ignored += unexecuted - rowcount;
+                        executed++;
+                        unexecuted = 0;
+                    }
+                    catch (SQLException e) {
+                        copy = null;
+                        errors.add(new LoaderErrorImpl(Tools.translate(sql, e), row, rowIndex(), ctx.query(sql)));
+                        ignored += unexecuted;
+                        unexecuted = 0;
+                    }
+                }
+            }
+            finally {
+
+                // Don't leave the connection in COPY mode if rows could not be read
+                if (copy != null)
+                    copy.cancel();
+            }
+
+            // Commit remaining elements in COMMIT_AFTER mode
+            if (commit == COMMIT_AFTER && uncommitted != 0)
+                commit();
+
+            // execution:
+        }
+
+        commitOrRollbackAll();
+    }
+
+    /**
+     * The <code>COPY .. FROM STDIN</code> statement for the mapped fields.
+     */
+    private final String copySQL(DSLContext ctx, Object[] row) {
+        StringBuilder sb = new StringBuilder("copy ").append(ctx.render(table)).append(" (");
+        String separator = "";
+
+        for (int i = 0; i < row.length; i++) {
+            if (i < fields.length && fields[i] != null) {
+                sb.append(separator).append(ctx.render(DSL.name(fields[i].getName())));
+                separator = ", ";
+            }
+        }
+
+        return sb.append(") from stdin").toString();
+    }
+
+    /**
+     * The row's values converted to the database types of their mapped
+     * fields, in the order in which they are listed in the <code>COPY</code>
+     * statement.
+     */
+    private final Object[] copyValues(Object[] row) {
+        List<Object> result = new ArrayList<>(fields.length);
+
+        for (int i = 0; i < row.length; i++)
+            if (i < fields.length && fields[i] != null)
+                result.add(copyValue0(fields[i], row[i]));
+
+        return result.toArray();
+    }
+
+    /**
+     * Type-safety...
+     */
+    private static final <T> Object copyValue0(Field<T> field, Object value) {
+        return field.getConverter().to(field.getDataType().convert(value));
+    }
+
+    /**
+     * Rollback on errors in COMMIT_ALL mode.
+     */
+    private final void commitOrRollbackAll() {
         try {
             if (commit == COMMIT_ALL) {
                 if (!errors.isEmpty()) {
@@ -969,6 +1169,290 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    private final Object[] prepare(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        return row;
+    }
+
+    /**
+     * The index of the current row in the input, which differs from the number
+     * of processed rows in a worker.
+     */
+    private final int rowIndex() {
+        return pipeline != null ? rowIndex : processed - 1;
+    }
+
+    // -------------------------------------------------------------------------
+    // Parallel execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Acquire {@link #parallelism} connections, or none if the connection
+     * provider doesn't provide distinct connections, e.g. because they are
+     * bound to a transaction of the calling thread.
+     */
+    private final List<Connection> acquireDistinct(ConnectionProvider provider) {
+        List<Connection> result = new ArrayList<>(parallelism);
+        Set<Connection> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean success = false;
+
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                Connection connection = provider.acquire();
+                result.add(connection);
+
+                if (!distinct.add(connection))
+                    return null;
+            }
+
+            success = true;
+            return result;
+        }
+        finally {
+            if (!success)
+                for (Connection connection : result)
+                    provider.release(connection);
+        }
+    }
+
+    /**
+     * Read and convert rows on the calling thread, and insert them using
+     * {@link #parallelism} workers, each with their own connection.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator, List<Connection> connections) {
+        ConnectionProvider provider = configuration.connectionProvider();
+        Executor executor = configuration.executorProvider().provide();
+        Pipeline p = new Pipeline(parallelism * Math.max(bulkAfter * batchAfter, 16));
+        List<LoaderImpl<R>> workers = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        RuntimeException failure = null;
+        Object[] row;
+
+        try {
+            while (!p.aborted && iterator.hasNext() && ((row = iterator.next()) != null)) {
+                row = prepare(row);
+                rowCtx.row(row);
+
+                if (onRowStart != null) {
+                    onRowStart.row(rowCtx);
+                    row = rowCtx.row();
+                }
+
+                // Convert bind values already on this thread
+                for (int i = 0; i < row.length && i < fields.length; i++)
+                    if (fields[i] != null)
+                        row[i] = fields[i].getDataType().convert(row[i]);
+
+                // The workers are started only once the fields are known
+                if (workers.isEmpty()) {
+                    for (Connection connection : connections) {
+                        LoaderImpl<R> worker = worker(configuration.derive(new DefaultConnectionProvider(connection)), p);
+                        workers.add(worker);
+                        futures.add(CompletableFuture.runAsync(() -> worker.executeWorker(), executor));
+                    }
+                }
+
+                processed++;
+
+                // The workers invoke the onRowEnd listener once they've
+                // processed the row
+                if (!p.offer(new IndexedRow(processed - 1, row), futures))
+                    break;
+            }
+        }
+        finally {
+            p.done = true;
+
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                }
+                catch (CompletionException e) {
+                    if (failure == null)
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+
+            try {
+                processed = 0;
+
+                for (LoaderImpl<R> worker : workers) {
+                    processed += worker.processed;
+                    executed += worker.executed;
+                    ignored += worker.ignored;
+                    stored += worker.stored;
+                    errors.addAll(worker.errors);
+                }
+
+                errors.sort(Comparator.comparingInt(LoaderError::rowIndex));
+            }
+            finally {
+                for (Connection connection : connections)
+                    provider.release(connection);
+            }
+        }
+
+        if (failure != null)
+            throw failure;
+    }
+
+    private final LoaderImpl<R> worker(Configuration c, Pipeline p) {
+        LoaderImpl<R> worker = new LoaderImpl<>(c, table);
+
+        worker.onDuplicate = onDuplicate;
+        worker.onError = onError;
+        worker.commit = commit;
+        worker.commitAfter = commitAfter;
+        worker.batch = batch;
+        worker.batchAfter = batchAfter;
+        worker.bulk = bulk;
+        worker.bulkAfter = bulkAfter;
+        worker.bulkCopy = bulkCopy;
+        worker.content = CONTENT_ARRAYS;
+        worker.fields = fields;
+        worker.primaryKey = primaryKey;
+        worker.pipeline = p;
+        worker.arrays = worker.new WorkerIterator();
+
+        // Listeners need not be thread safe, so the workers take turns
+        if (onRowEnd != null) {
+            LoaderRowListener l = onRowEnd;
+
+            worker.onRowEnd = ctx -> {
+                p.listenerLock.lock();
+
+                try {
+                    l.row(ctx);
+                }
+                finally {
+                    p.listenerLock.unlock();
+                }
+            };
+        }
+
+        return worker;
+    }
+
+    private final void executeWorker() {
+        try {
+            executeSQL(arrays);
+        }
+        catch (RuntimeException | Error e) {
+            pipeline.aborted = true;
+            throw e;
+        }
+
+        // Make the other workers abort as well
+        if (onError == ON_ERROR_ABORT && !errors.isEmpty())
+            pipeline.aborted = true;
+    }
+
+    private static final class IndexedRow {
+        final int      index;
+        final Object[] row;
+
+        IndexedRow(int index, Object[] row) {
+            this.index = index;
+            this.row = row;
+        }
+    }
+
+    /**
+     * The bounded queue of rows between the reading thread and the workers.
+     */
+    private static final class Pipeline {
+        final BlockingQueue<IndexedRow> queue;
+        final ReentrantLock             listenerLock;
+        volatile boolean                done;
+        volatile boolean                aborted;
+
+        Pipeline(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.listenerLock = new ReentrantLock();
+        }
+
+        /**
+         * Offer a row to the workers, blocking while the queue is full, unless
+         * loading was aborted or all workers have terminated.
+         */
+        final boolean offer(IndexedRow row, List<CompletableFuture<Void>> futures) {
+            try {
+                while (!queue.offer(row, 10, TimeUnit.MILLISECONDS))
+                    if (aborted || futures.stream().allMatch(CompletableFuture::isDone))
+                        return false;
+
+                return true;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                aborted = true;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * A worker's view of the {@link Pipeline}.
+     */
+    private final class WorkerIterator implements Iterator<Object[]> {
+        private IndexedRow next;
+
+        @Override
+        public final boolean hasNext() {
+            try {
+                while (next == null) {
+
+                    // Another worker aborted loading
+                    if (pipeline.aborted)
+                        return false;
+                    else if ((next = pipeline.queue.poll(10, TimeUnit.MILLISECONDS)) == null && pipeline.done && pipeline.queue.isEmpty())
+                        return false;
+                }
+
+                return true;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pipeline.aborted = true;
+                return false;
+            }
+        }
+
+        @Override
+        public final Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            rowIndex = next.index;
+            Object[] result = next.row;
+            next = null;
+            return result;
+        }
+    }
+
     private final void commit() {
         configuration.dsl().connection(Connection::commit);
         uncommitted = 0;
@@ -978,6 +1462,20 @@ final class LoaderImpl<R extends Record> implements
         configuration.dsl().connection(Connection::rollback);
     }
 
+    /**
+     * The row's values converted to the types of their mapped fields, in the
+     * order in which they are bound to an INSERT statement.
+     */
+    private final Object[] bindValues(Object[] row) {
+        List<Object> result = new ArrayList<>(fields.length);
+
+        for (int i = 0; i < row.length; i++)
+            if (i < fields.length && fields[i] != null)
+                result.add(fields[i].getDataType().convert(row[i]));
+
+        return result.toArray();
+    }
+
     /**
      * Type-safety...
      */
@@ -92,6 +92,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.jooq.Catalog;
@@ -198,6 +199,11 @@ final class MetaImpl extends AbstractMeta {
         }
     }
 
+    @Override
+    final boolean concurrentReads() {
+        return false;
+    }
+
     @Override
     final List<Catalog> getCatalogs0() {
         List<Catalog> result = new ArrayList<>();
@@ -338,13 +344,26 @@ final class MetaImpl extends AbstractMeta {
         private transient volatile Map<Name, Result<Record>> columnCache;
         private transient volatile Map<Name, Result<Record>> ukCache;
         private transient volatile Map<Name, Result<Record>> sequenceCache;
+        private final ReentrantLock                          lock = new ReentrantLock();
 
         MetaSchema(String name, Catalog catalog) {
             super(name, catalog);
         }
 
         @Override
-        public final synchronized List<Table<?>> getTables() {
+        public final List<Table<?>> getTables() {
+
+            // A lock doesn't pin virtual threads while blocking on JDBC calls
+            lock.lock();
+            try {
+                return getTables0();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private final List<Table<?>> getTables0() {
             Result<Record> tables = meta(meta -> {
                 String[] types;
 
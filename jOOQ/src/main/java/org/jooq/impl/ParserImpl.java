@@ -396,12 +396,14 @@ import static org.jooq.impl.Tools.aliased;
 import static org.jooq.impl.Tools.anyMatch;
 import static org.jooq.impl.Tools.deleteQueryImpl;
 import static org.jooq.impl.Tools.normaliseNameCase;
+import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.selectQueryImpl;
 import static org.jooq.impl.Tools.updateQueryImpl;
 import static org.jooq.impl.Transformations.transformAppendMissingTableReferences;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.io.ByteArrayOutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
@@ -418,7 +420,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -427,6 +434,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.AggregateFilterStep;
 import org.jooq.AggregateFunction;
@@ -646,6 +655,8 @@ import org.jooq.types.YearToSecond;
  */
 final class ParserImpl implements Parser {
 
+    static final int                   PARALLEL_PART_SIZE = 32768;
+
     private final DSLContext           dsl;
     private final ParseWithMetaLookups metaLookups;
     private final Meta                 meta;
@@ -671,9 +682,72 @@ final class ParserImpl implements Parser {
 
     @Override
     public final Queries parse(String sql, Object... bindings) {
+        if (bindings.length == 0 && parseParallel(sql)) {
+            Queries result = parseParallel(ScriptScanner.split(sql.toCharArray(), PARALLEL_PART_SIZE), sql);
+
+            if (result != null)
+                return result;
+        }
+
         return ctx(sql, bindings).parse();
     }
 
+    private final boolean parseParallel(String sql) {
+        Configuration c = dsl.configuration();
+
+        return sql != null
+            && sql.length() >= 2 * PARALLEL_PART_SIZE
+            && Runtime.getRuntime().availableProcessors() > 1
+            && TRUE.equals(c.settings().isParseParallel())
+
+            // Features that depend on state shared by all queries of a script
+            && meta == null
+            && FALSE.equals(c.settings().isParseIgnoreComments())
+            && c.data("org.jooq.parser.param-collector") == null;
+    }
+
+    /**
+     * Parse the parts of a script in parallel, returning <code>null</code> if
+     * any part can't be parsed on its own, in case the script wasn't split
+     * correctly.
+     */
+    private final Queries parseParallel(List<ScriptScanner.Part> parts, String sql) {
+        if (parts.size() <= 1)
+            return null;
+
+        Executor executor = dsl.configuration().executorProvider().provide();
+        List<CompletableFuture<Queries>> futures = map(parts, part -> CompletableFuture.supplyAsync(() -> {
+            DefaultParseContext ctx = ctx(sql.substring(part.start, part.end));
+            ctx.delimiter(part.delimiter);
+            return ctx.parse();
+        }, executor));
+
+        List<Query> result = new ArrayList<>();
+
+        try {
+            for (CompletableFuture<Queries> future : futures)
+                result.addAll(asList(future.join().queries()));
+        }
+
+        // Any errors are reported when parsing the script sequentially
+        catch (CompletionException e) {
+            return null;
+        }
+
+        return dsl.queries(result);
+    }
+
+    @Override
+    public final Stream<Query> parseStream(Reader reader) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new ParserIterator(ctx(null), reader),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        );
+    }
+
     @Override
     public final Query parseQuery(String sql) {
         return parseQuery(sql, EMPTY_OBJECT);
@@ -813,6 +887,65 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         });
     }
 
+    /**
+     * Parse the next query of a script that is read incrementally by a
+     * {@link ParserIterator}.
+     * <p>
+     * Unless this is the <code>last</code> part of the script, a query is
+     * complete only if its delimiter is followed by more content. If the next
+     * query is incomplete, the position is reset to its beginning and
+     * <code>null</code> is returned, as well as when there are no more queries
+     * in the last part of the script. The position is also reset when an
+     * exception is thrown.
+     */
+    final Query parseNextQuery(boolean last) {
+        return wrap(() -> {
+            parseWhitespaceIf();
+
+            for (;;) {
+                int start = position;
+                String previousDelimiter = delimiter;
+
+                try {
+                    Query query = null;
+                    parseDelimiterSpecifications();
+
+                    // Delimiter specifications extend until the end of their line
+                    boolean complete = position == start || hasMore();
+
+                    if (complete) {
+                        while (parseDelimiterIf(false));
+
+                        query = done() ? null : patchParsedQuery(parseQuery(false, false));
+                        complete = query == IGNORE_NO_DELIMITER
+                            ? hasMore()
+                            : parseDelimiterIf(false) && hasMore();
+                    }
+
+                    if (!last && !complete) {
+                        position = start;
+                        delimiter = previousDelimiter;
+                        return null;
+                    }
+                    else if (query == null)
+                        return null;
+                    else if (query != IGNORE && query != IGNORE_NO_DELIMITER)
+                        return notify(query);
+                }
+
+                // The error may be caused by the query being incomplete
+                catch (ParserException e) {
+                    if (!last) {
+                        position = start;
+                        delimiter = previousDelimiter;
+                    }
+
+                    throw e;
+                }
+            }
+        });
+    }
+
     private static final Pattern P_SEARCH_PATH = Pattern.compile("(?i:select\\s+(pg_catalog\\s*\\.\\s*)?set_config\\s*\\(\\s*'search_path'\\s*,\\s*'([^']*)'\\s*,\\s*\\w+\\s*\\))");
 
     private final Query patchParsedQuery(Query query) {
@@ -13987,11 +14120,11 @@ final class DefaultParseContext extends AbstractScope implements ParseContext {
         return position(position + inc);
     }
 
-    private final String delimiter() {
+    final String delimiter() {
         return delimiter;
     }
 
-    private final void delimiter(String newDelimiter) {
+    final void delimiter(String newDelimiter) {
         delimiter = newDelimiter;
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jooq.Parser;
+import org.jooq.Query;
+import org.jooq.exception.IOException;
+
+/**
+ * An {@link Iterator} of the queries of a SQL script, which is read and parsed
+ * incrementally for {@link Parser#parseStream(Reader)}.
+ * <p>
+ * The script is read into a buffer that starts at the first query that hasn't
+ * been parsed yet. The buffer is grown (and the query is parsed again) only if
+ * the query isn't complete within the buffer, so the buffer size is bounded by
+ * the size of the largest query in the script, not by the size of the script.
+ * <p>
+ * Content that is available without blocking is read up to the size of the
+ * buffer. Otherwise, reading blocks only until content has been read that may
+ * complete a query, i.e. the current delimiter followed by more content, so a
+ * query can be parsed as soon as its delimiter has been read, e.g. from a
+ * pipe. Line breaks are not considered, as a long query spanning many lines
+ * would otherwise be parsed again after each line.
+ *
+ * @author Lukas Eder
+ */
+final class ParserIterator implements Iterator<Query> {
+
+    static final int                  CHUNK_SIZE = 8192;
+
+    private final DefaultParseContext ctx;
+    private final Reader              reader;
+    private char[]                    chars;
+    private boolean                   eof;
+    private int                       errorPosition = -1;
+    private Query                     next;
+
+    ParserIterator(DefaultParseContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.reader = reader;
+        this.chars = ctx.characters();
+    }
+
+    @Override
+    public final boolean hasNext() {
+        return next != null || (next = parseNext()) != null;
+    }
+
+    @Override
+    public final Query next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Query result = next;
+        next = null;
+        return result;
+    }
+
+    private final Query parseNext() {
+        for (;;) {
+            try {
+                Query result = ctx.parseNextQuery(eof);
+
+                if (result != null || eof) {
+                    errorPosition = -1;
+                    return result;
+                }
+            }
+            catch (ParserException e) {
+                int start = ctx.position();
+                int error = e.position() - start;
+
+                // Errors caused by a query being cut off at the end of the
+                // buffer are usually located in its last token. Other errors
+                // are reported only if they persist after reading more content
+                if (eof || error < ScriptScanner.lastTokenStart(chars, start) - start && error == errorPosition)
+                    throw e;
+
+                errorPosition = error;
+            }
+
+            read(ctx.position());
+        }
+    }
+
+    /**
+     * Discard the parsed content before <code>position</code> and read more
+     * content into the buffer, growing it if needed.
+     * <p>
+     * Reading continues only as long as the reader can provide more content
+     * without blocking, or as long as the content read so far can't complete
+     * a query, which avoids parsing the same query again after each small
+     * read.
+     */
+    private final void read(int position) {
+        int length = chars.length - position;
+        int start = length;
+        char[] c = new char[length + Math.max(CHUNK_SIZE, length)];
+        System.arraycopy(chars, position, c, 0, length);
+
+        try {
+            do {
+                int read = reader.read(c, length, c.length - length);
+
+                if (read < 0) {
+                    eof = true;
+                    break;
+                }
+
+                length += read;
+            }
+            while (length < c.length && (reader.ready() || !mayComplete(c, start, length)));
+        }
+        catch (java.io.IOException e) {
+            throw new IOException("Exception while reading SQL script", e);
+        }
+
+        chars = length < c.length ? Arrays.copyOf(c, length) : c;
+        ctx.characters(chars);
+        ctx.position(0);
+    }
+
+    /**
+     * Whether the content that has been read between <code>from</code> and
+     * <code>to</code> contains the end of the current delimiter, followed by
+     * more content.
+     */
+    private final boolean mayComplete(char[] c, int from, int to) {
+        String delimiter = ctx.delimiter();
+        char d = delimiter.isEmpty() ? ';' : delimiter.charAt(delimiter.length() - 1);
+
+        for (int i = Math.max(0, from - 1); i < to - 1; i++)
+            if (c[i] == d)
+                return true;
+
+        return false;
+    }
+}
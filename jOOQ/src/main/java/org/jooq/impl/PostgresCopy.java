@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jooq.util.postgres.PostgresUtils;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * A <code>COPY .. FROM STDIN</code> operation on a pgjdbc connection, writing
+ * rows in PostgreSQL's text format.
+ * <p>
+ * This class must only be loaded when the pgjdbc driver is on the classpath,
+ * which can be checked using {@link #supported(Connection)}.
+ *
+ * @author Lukas Eder
+ */
+final class PostgresCopy {
+
+    /**
+     * The size of the buffer that is flushed to the server.
+     */
+    private static final int    CHUNK_SIZE = 65536;
+
+    private final CopyIn        copy;
+    private final StringBuilder buffer;
+
+    PostgresCopy(Connection connection, String sql) throws SQLException {
+        this.copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        this.buffer = new StringBuilder();
+    }
+
+    /**
+     * Whether a connection is a pgjdbc connection.
+     */
+    static final boolean supported(Connection connection) {
+        try {
+            return connection.isWrapperFor(PGConnection.class);
+        }
+        catch (SQLException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write a row of database values, flushing the buffer if it is full.
+     */
+    final void row(Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                buffer.append('\t');
+
+            value(values[i]);
+        }
+
+        buffer.append('\n');
+
+        if (buffer.length() >= CHUNK_SIZE)
+            flush();
+    }
+
+    /**
+     * Complete the operation, returning the number of copied rows.
+     */
+    final long end() throws SQLException {
+        try {
+            flush();
+            return copy.endCopy();
+        }
+        catch (SQLException e) {
+            cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Abort the operation, if it is still active.
+     */
+    final void cancel() {
+        buffer.setLength(0);
+
+        try {
+            if (copy.isActive())
+                copy.cancelCopy();
+        }
+        catch (SQLException ignore) {}
+    }
+
+    private final void flush() throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(UTF_8);
+            buffer.setLength(0);
+            copy.writeToCopy(bytes, 0, bytes.length);
+        }
+    }
+
+    private final void value(Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+        }
+
+        // The bytea hex format, with its backslash escaped
+        else if (value instanceof byte[]) {
+            buffer.append("\\\\x");
+
+            for (byte b : (byte[]) value)
+                buffer.append(Character.forDigit((b >> 4) & 0xF, 16))
+                      .append(Character.forDigit(b & 0xF, 16));
+        }
+        else {
+            String string = PostgresUtils.toPGString(value);
+
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+
+                switch (c) {
+                    case '\\': buffer.append("\\\\"); break;
+                    case '\t': buffer.append("\\t"); break;
+                    case '\n': buffer.append("\\n"); break;
+                    case '\r': buffer.append("\\r"); break;
+                    default:   buffer.append(c); break;
+                }
+            }
+        }
+    }
+}
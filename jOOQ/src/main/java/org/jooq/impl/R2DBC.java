@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 // ...
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.impl.Internal.subscriber;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
@@ -64,17 +65,26 @@ import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jooq.BindingGetResultSetContext;
 import org.jooq.Configuration;
@@ -109,6 +119,7 @@ import io.r2dbc.spi.Batch;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.ConnectionFactoryOptions.Builder;
 import io.r2dbc.spi.Option;
@@ -189,6 +200,22 @@ final class R2DBC {
             return !completed.get() && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
         }
 
+        /**
+         * Take up to <code>max</code> units of the requested demand at once.
+         */
+        final long moreRequested(long max) {
+            if (completed.get())
+                return 0L;
+
+            long[] result = { 0L };
+            requested.getAndUpdate(l -> {
+                result[0] = Math.min(l, max);
+                return l == Long.MAX_VALUE ? l : l - result[0];
+            });
+
+            return result[0];
+        }
+
         final void complete(boolean cancelled) {
 
             // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
@@ -210,24 +237,28 @@ final class R2DBC {
         final int                           forwarderIndex;
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
+        final AtomicLong                    outstanding;
 
         Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.outstanding = new AtomicLong();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+            resultSubscriber.downstream.request2(this);
         }
 
         @Override
         public final void onNext(T value) {
+            outstanding.decrementAndGet();
+
             if (!resultSubscriber.downstream.completed.get()) {
                 resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
+                resultSubscriber.downstream.request2(this);
             }
         }
 
@@ -238,7 +269,15 @@ final class R2DBC {
 
         @Override
         public final void onComplete() {
-            resultSubscriber.downstream.forwarders.remove(forwarderIndex);
+            AbstractNonBlockingSubscription<? super T> downstream = resultSubscriber.downstream;
+
+            downstream.forwarders.remove(forwarderIndex);
+
+            // Demand that was reserved for rows which never arrived is passed
+            // on to the next forwarders
+            if (downstream.release(this))
+                downstream.request1();
+
             resultSubscriber.complete();
         }
     }
@@ -300,45 +339,69 @@ final class R2DBC {
         @SuppressWarnings("unchecked")
         @Override
         public final void onNext(Result r) {
-            r.map((row, meta) -> {
-                try {
-                    // TODO: Cache this getFields() call
-                    Field<?>[] fields = query.getFields(new R2DBCResultSetMetaData(query.configuration(), meta));
+            r.map(new RecordReader<>(this)).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+        }
+    }
+
+    /**
+     * Read the {@link Row} values of a {@link Result} into records.
+     * <p>
+     * Rows of a {@link Result} are mapped sequentially, and share the same
+     * {@link RowMetadata}, so the fields, the record factory, and the binding
+     * context are looked up once per {@link Result}, not once per row.
+     */
+    static final class RecordReader<R extends Record> implements BiFunction<Row, RowMetadata, R> {
+
+        final ResultSubscriber<R, ?>                      subscriber;
+        final Configuration                               configuration;
+        Field<?>[]                                        fields;
+        Supplier<AbstractRecord>                          factory;
+        R2DBCResultSet                                    rs;
+        DefaultBindingGetResultSetContext<?>              ctx;
+
+        RecordReader(ResultSubscriber<R, ?> subscriber) {
+            this.subscriber = subscriber;
+            this.configuration = subscriber.query.configuration();
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        public final R apply(Row row, RowMetadata meta) {
+            try {
+                if (fields == null) {
+                    fields = subscriber.query.getFields(new R2DBCResultSetMetaData(configuration, meta));
 
                     // TODO: This call is duplicated from CursorImpl and related classes.
                     // Refactor this call to make sure code is re-used, especially when
                     // ExecuteListener lifecycle management is implemented
-                    RecordDelegate<? extends AbstractRecord> delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), query.configuration());
-
-                    return (R) delegate.operate(record -> {
-
-                        // TODO: What data to pass here?
-                        DefaultBindingGetResultSetContext<?> ctx = new DefaultBindingGetResultSetContext<>(
-                            query.configuration(),
-                            query.configuration().data(),
-                            new R2DBCResultSet(query.configuration(), row, meta),
-                            0
-                        );
-
-                        // TODO: Make sure all the embeddable records, and other types of nested records are supported
-                        for (int i = 0; i < fields.length; i++) {
-                            ctx.index(i + 1);
-                            ctx.field((Field) fields[i]);
-                            fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                            record.values[i] = ctx.value();
-                            record.originals[i] = ctx.value();
-                        }
-
-                        return record;
-                    });
-                }
+                    factory = recordFactory((Class<AbstractRecord>) subscriber.query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields));
 
-                // TODO: More specific error handling
-                catch (Throwable t) {
-                    onError(t);
-                    return null;
+                    // TODO: What data to pass here?
+                    rs = new R2DBCResultSet(configuration, row, meta);
+                    ctx = new DefaultBindingGetResultSetContext<>(configuration, configuration.data(), rs, 0);
                 }
-            }).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
+                else
+                    rs.row(row);
+
+                return (R) Tools.newRecord(true, factory, configuration).operate(record -> {
+
+                    // TODO: Make sure all the embeddable records, and other types of nested records are supported
+                    for (int i = 0; i < fields.length; i++) {
+                        ctx.index(i + 1);
+                        ctx.field((Field) fields[i]);
+                        fields[i].getBinding().get((BindingGetResultSetContext) ctx);
+                        record.values[i] = record.originals[i] = ctx.value();
+                    }
+
+                    return record;
+                });
+            }
+
+            // TODO: More specific error handling
+            catch (Throwable t) {
+                subscriber.onError(t);
+                return null;
+            }
         }
     }
 
@@ -481,29 +544,417 @@ final class R2DBC {
             try {
                 batch.checkBindValues();
                 Rendered rendered = rendered(batch.configuration, batch.query);
-                Statement stmt = c.createStatement(rendered.sql);
-                Param<?>[] params = rendered.bindValues.toArray(EMPTY_PARAM);
 
-                for (Object[] bindValues : batch.allBindValues) {
+                statement(c, batch, rendered, batch.allBindValues).execute().subscribe(new RowCountSubscriber(downstream));
+            }
+            catch (Throwable t) {
+                onError(t);
+            }
+        }
+
+        static final Statement statement(Connection c, BatchSingle batch, Rendered rendered, List<Object[]> rows) {
+            Statement stmt = c.createStatement(rendered.sql);
+            Param<?>[] params = rendered.bindValues.toArray(EMPTY_PARAM);
+
+            for (Object[] bindValues : rows) {
+
+                // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
+                //                 list to preserve type information
+                // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
+                //                 plain SQL. In that case, infer the bind value type directly from the bind value
+                visitAll(new DefaultBindContext(batch.configuration, new R2DBCPreparedStatement(batch.query.configuration(), stmt)),
+                    (params.length > 0)
+                        ? fields(bindValues, params)
+                        : fields(bindValues));
+
+                stmt = stmt.add();
+            }
+
+            return stmt;
+        }
+    }
+
+    /**
+     * A subscription to a {@link BatchSingle} whose bind values are produced
+     * by a {@link Publisher}.
+     * <p>
+     * The bind values are executed in sub-batches of
+     * {@link Settings#getBatchStreamSize()} rows, or of the rows that have been
+     * received when {@link Settings#getBatchFlushInterval()} elapses. Up to
+     * {@link Settings#getBatchMaxInFlight()} sub-batches are executed
+     * concurrently on the same connection, which pipelines them on drivers
+     * that support it. The update counts are emitted in bind value order.
+     * <p>
+     * Rows are requested from the publisher only as long as fewer than
+     * <code>batchStreamSize * batchMaxInFlight</code> rows are pending, i.e.
+     * their sub-batch has not yet been executed and emitted downstream
+     * completely, so a slow subscriber throttles the publisher. Rows are
+     * released per sub-batch, not per update count, as drivers may report
+     * fewer update counts than rows.
+     */
+    static final class BatchStreamSubscription extends AbstractSubscription<Integer> implements Subscriber<Object[]> {
+
+        final BatchSingle                     batch;
+        final Publisher<? extends Connection> connectionPublisher;
+        final AtomicReference<Connection>     connection;
+        final AtomicReference<Subscription>   upstream;
+        final AtomicBoolean                   subscribed;
+        final AtomicLong                      pending;
+        final AtomicInteger                   wip;
+        final ReentrantLock                   lock;
+        final Queue<SubBatch>                 subBatches;
+        final Deque<SubBatch>                 waiting;
+        final int                             size;
+        final int                             maxInFlight;
+        final int                             flushInterval;
+        volatile Rendered                     rendered;
+        volatile boolean                      done;
+
+        // Guarded by lock
+        List<Object[]>                        rows;
+        int                                   index;
+        int                                   chunk;
+        int                                   inFlight;
+
+        BatchStreamSubscription(BatchSingle batch, Subscriber<? super Integer> subscriber) {
+            super(subscriber);
+
+            Settings settings = batch.configuration.settings();
 
-                    // [#1371] [#2139] Don't bind variables directly onto statement, bind them through the collected params
-                    //                 list to preserve type information
-                    // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
-                    //                 plain SQL. In that case, infer the bind value type directly from the bind value
-                    visitAll(new DefaultBindContext(batch.configuration, new R2DBCPreparedStatement(batch.query.configuration(), stmt)),
-                        (params.length > 0)
-                            ? fields(bindValues, params)
-                            : fields(bindValues));
+            this.batch = batch;
+            this.connectionPublisher = batch.configuration.connectionFactory().create();
+            this.connection = new AtomicReference<>();
+            this.upstream = new AtomicReference<>();
+            this.subscribed = new AtomicBoolean();
+            this.pending = new AtomicLong();
+            this.wip = new AtomicInteger();
+            this.lock = new ReentrantLock();
+            this.subBatches = new ConcurrentLinkedQueue<>();
+            this.waiting = new ArrayDeque<>();
+            this.size = Math.max(1, defaultIfNull(settings.getBatchStreamSize(), 1000));
+            this.maxInFlight = Math.max(1, defaultIfNull(settings.getBatchMaxInFlight(), 0));
+            this.flushInterval = Math.max(0, defaultIfNull(settings.getBatchFlushInterval(), 0));
+            this.rows = new ArrayList<>();
+        }
+
+        final String sql() {
+            Rendered r = rendered;
+            return r != null ? r.sql : batch.toString();
+        }
 
-                    stmt = stmt.add();
+        @Override
+        final void request0() {
+
+            // Lazy execution of the batch
+            if (!subscribed.getAndSet(true))
+                connectionPublisher.subscribe(subscriber(s -> s.request(1), this::connected, this::error, () -> {}));
+            else
+                drain();
+        }
+
+        private final void connected(Connection c) {
+            connection.set(c);
+
+            if (completed.get()) {
+                close();
+                return;
+            }
+
+            try {
+                rendered = rendered(batch.configuration, batch.query);
+                batch.checkBindValues();
+
+                lock.lock();
+                try {
+                    pending.addAndGet(batch.allBindValues.size());
+
+                    for (Object[] row : batch.allBindValues)
+                        add(row);
+                }
+                finally {
+                    lock.unlock();
                 }
 
-                stmt.execute().subscribe(new RowCountSubscriber(downstream));
+                dispatch();
+                batch.stream.subscribe(this);
             }
+
+            // TODO: More specific error handling
             catch (Throwable t) {
-                onError(t);
+                error(t);
+            }
+        }
+
+        // ---------------------------------------------------------------------
+        // The bind value rows subscriber
+        // ---------------------------------------------------------------------
+
+        @Override
+        public final void onSubscribe(Subscription s) {
+            if (completed.get()) {
+                s.cancel();
+            }
+            else {
+                upstream.set(s);
+                pull();
             }
         }
+
+        @Override
+        public final void onNext(Object[] row) {
+            lock.lock();
+            try {
+                batch.checkBindValues(index, row);
+                add(row);
+            }
+            finally {
+                lock.unlock();
+            }
+
+            dispatch();
+        }
+
+        @Override
+        public final void onError(Throwable t) {
+            error(t);
+        }
+
+        @Override
+        public final void onComplete() {
+            lock.lock();
+            try {
+                flush();
+                done = true;
+            }
+            finally {
+                lock.unlock();
+            }
+
+            dispatch();
+            drain();
+        }
+
+        /**
+         * Request as many rows from the publisher as fit into the in flight
+         * sub-batches, in multiples of the sub-batch size.
+         */
+        private final void pull() {
+            Subscription s = upstream.get();
+
+            if (s == null || done || completed.get())
+                return;
+
+            long window = (long) size * maxInFlight;
+
+            for (;;) {
+                long p = pending.get();
+                long n = (window - p) / size * size;
+
+                if (n <= 0)
+                    return;
+
+                if (pending.compareAndSet(p, p + n)) {
+                    s.request(n);
+                    return;
+                }
+            }
+        }
+
+        // ---------------------------------------------------------------------
+        // The sub-batches
+        // ---------------------------------------------------------------------
+
+        static final class SubBatch {
+            final List<Object[]> rows;
+            final Queue<Integer> counts;
+            final AtomicInteger  executing;
+            volatile boolean     executed;
+
+            SubBatch(List<Object[]> rows) {
+                this.rows = rows;
+                this.counts = new ConcurrentLinkedQueue<>();
+
+                // The Result publisher, and one getRowsUpdated() publisher per Result
+                this.executing = new AtomicInteger(1);
+            }
+        }
+
+        /**
+         * Add a row to the current sub-batch. Must be called with the lock.
+         */
+        private final void add(Object[] row) {
+            index++;
+            rows.add(row);
+
+            if (rows.size() >= size)
+                flush();
+            else if (rows.size() == 1 && flushInterval > 0)
+                schedule(chunk);
+        }
+
+        private final void schedule(int c) {
+            CompletableFuture.delayedExecutor(flushInterval, MILLISECONDS, batch.configuration.executorProvider().provide()).execute(() -> {
+                lock.lock();
+                try {
+                    if (chunk == c)
+                        flush();
+                }
+                finally {
+                    lock.unlock();
+                }
+
+                dispatch();
+            });
+        }
+
+        /**
+         * Turn the current rows into a sub-batch waiting for execution. Must
+         * be called with the lock.
+         */
+        private final void flush() {
+            if (!rows.isEmpty()) {
+                SubBatch b = new SubBatch(rows);
+                subBatches.add(b);
+                waiting.add(b);
+                rows = new ArrayList<>();
+                chunk++;
+            }
+        }
+
+        /**
+         * Execute waiting sub-batches, as long as there's room in flight.
+         */
+        private final void dispatch() {
+            List<SubBatch> execute = new ArrayList<>();
+
+            lock.lock();
+            try {
+                while (inFlight < maxInFlight && !waiting.isEmpty()) {
+                    inFlight++;
+                    execute.add(waiting.poll());
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+
+            for (SubBatch b : execute)
+                execute(b);
+        }
+
+        private final void execute(SubBatch b) {
+            if (completed.get())
+                return;
+
+            try {
+                BatchSingleSubscriber.statement(connection.get(), batch, rendered, b.rows).execute().subscribe(subscriber(
+                    s -> s.request(Long.MAX_VALUE),
+                    r -> {
+                        b.executing.incrementAndGet();
+                        r.getRowsUpdated().subscribe(subscriber(
+                            s -> s.request(Long.MAX_VALUE),
+                            c -> {
+                                b.counts.add(c);
+                                drain();
+                            },
+                            this::error,
+                            () -> executed(b)
+                        ));
+                    },
+                    this::error,
+                    () -> executed(b)
+                ));
+            }
+
+            // TODO: More specific error handling
+            catch (Throwable t) {
+                error(t);
+            }
+        }
+
+        private final void executed(SubBatch b) {
+            if (b.executing.decrementAndGet() == 0) {
+                b.executed = true;
+
+                lock.lock();
+                try {
+                    inFlight--;
+                }
+                finally {
+                    lock.unlock();
+                }
+
+                dispatch();
+                drain();
+            }
+        }
+
+        /**
+         * Emit the update counts of the sub-batches in order, as far as
+         * requested, from whatever thread gets here first.
+         */
+        private final void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            do {
+                long retired = 0L;
+                SubBatch b;
+
+                while ((b = subBatches.peek()) != null) {
+                    while (!completed.get() && b.counts.peek() != null && moreRequested())
+                        subscriber.onNext(b.counts.poll());
+
+                    if (b.executed && b.counts.isEmpty()) {
+                        subBatches.poll();
+                        retired += b.rows.size();
+                    }
+                    else
+                        break;
+                }
+
+                if (retired > 0) {
+                    pending.addAndGet(-retired);
+                    pull();
+                }
+
+                if (done && subBatches.isEmpty())
+                    complete(false);
+            }
+            while (wip.decrementAndGet() != 0);
+        }
+
+        private final void error(Throwable t) {
+            if (!completed.getAndSet(true)) {
+                cancel0(true);
+                subscriber.onError(translate(sql(), t));
+            }
+        }
+
+        private final void close() {
+            connection.updateAndGet(c -> {
+
+                // close() calls on already closed resources have no effect, so
+                // the side-effect is OK with the AtomicReference contract
+                if (c != null)
+                    c.close().subscribe(subscriber(s -> s.request(Long.MAX_VALUE), t -> {}, t -> {}, () -> {}));
+
+                return null;
+            });
+        }
+
+        @Override
+        final void cancel0(boolean cancelled) {
+            Subscription s = upstream.getAndSet(null);
+
+            if (s != null)
+                s.cancel();
+
+            close();
+
+            if (!cancelled)
+                subscriber.onComplete();
+        }
     }
 
     static abstract class AbstractNonBlockingSubscription<T> extends AbstractSubscription<T> {
@@ -512,13 +963,16 @@ final class R2DBC {
         final Publisher<? extends Connection>       connection;
         final AtomicInteger                         nextForwarderIndex;
         final ConcurrentMap<Integer, Forwarding<T>> forwarders;
+        final int                                   prefetch;
 
         AbstractNonBlockingSubscription(
             Configuration configuration,
-            Subscriber<? super T> subscriber
+            Subscriber<? super T> subscriber,
+            int prefetch
         ) {
             super(subscriber);
 
+            this.prefetch = Math.max(1, prefetch);
             this.subscribed = new AtomicBoolean();
             this.connection = configuration.connectionFactory().create();
             this.nextForwarderIndex = new AtomicInteger();
@@ -560,13 +1014,49 @@ final class R2DBC {
             }
         }
 
-        private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
+        final void request1() {
+            for (Forwarding<T> f : forwarders.values())
+                request2(f);
         }
 
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+        /**
+         * Give the downstream demand that is still reserved by a forwarding
+         * subscription back, returning whether there was any.
+         */
+        final boolean release(Forwarding<?> f) {
+            long n = f.outstanding.getAndSet(0L);
+
+            if (n > 0) {
+                requested.accumulateAndGet(n, R2DBC::addNoOverflow);
+                return true;
+            }
+            else
+                return false;
+        }
+
+        /**
+         * Request more rows from a forwarding subscription, reserving the
+         * downstream demand for them.
+         * <p>
+         * Up to {@link #prefetch} rows are requested at once, and only once
+         * half of them have been received, to avoid requesting and forwarding
+         * every row individually.
+         */
+        final void request2(Forwarding<?> f) {
+            Subscription s = f.subscription.get();
+
+            if (s != null) {
+                long room = prefetch - f.outstanding.get();
+
+                if (room >= (prefetch + 1) / 2) {
+                    long n = moreRequested(room);
+
+                    if (n > 0) {
+                        f.outstanding.addAndGet(n);
+                        s.request(n);
+                    }
+                }
+            }
         }
 
         @Override
@@ -575,6 +1065,9 @@ final class R2DBC {
             // [#12108] Must pass along cancellation to forwarding subscriptions
             forAllForwardingSubscriptions(Subscription::cancel);
 
+            for (Forwarding<T> f : forwarders.values())
+                release(f);
+
             delegate().connection.updateAndGet(c -> {
 
                 // close() calls on already closed resources have no effect, so
@@ -608,11 +1101,20 @@ final class R2DBC {
             Subscriber<? super T> subscriber,
             BiFunction<Q, AbstractNonBlockingSubscription<T>, Subscriber<Result>> resultSubscriber
         ) {
-            super(query.configuration(), subscriber);
+            super(query.configuration(), subscriber, prefetch(query));
 
             this.queryExecutionSubscriber = new QueryExecutionSubscriber<>(query, this, resultSubscriber);
         }
 
+        /**
+         * The number of rows to request at once, which is the query's fetch
+         * size, if any.
+         */
+        private static final int prefetch(Query query) {
+            AbstractResultQuery<?> q = abstractResultQuery(query);
+            return q != null ? SettingsTools.getFetchSize(q.fetchSize(), query.configuration().settings()) : 1;
+        }
+
         @Override
         final QueryExecutionSubscriber<T, Q> delegate() {
             return queryExecutionSubscriber;
@@ -635,7 +1137,7 @@ final class R2DBC {
             Subscriber<? super Integer> subscriber,
             Function<BatchSubscription<B>, ConnectionSubscriber<Integer>> batchSubscriber
         ) {
-            super(batch.configuration, subscriber);
+            super(batch.configuration, subscriber, 1);
 
             this.batchSubscriber = batchSubscriber.apply(this);
             this.batch = batch;
@@ -676,6 +1178,9 @@ final class R2DBC {
 
     @SuppressWarnings("unchecked")
     static final <T> T block(Publisher<? extends T> publisher) {
+        if (isNonBlocking(Thread.currentThread()) && log.isWarnEnabled())
+            log.warn("Blocking", "Blocking on an R2DBC publisher in non-blocking thread " + Thread.currentThread().getName() + ". Consider using non-blocking API instead.", new DataAccessException("Blocking call site"));
+
         Object complete = new Object();
         LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
         publisher.subscribe(subscriber(s -> s.request(1), queue::add, queue::add, () -> queue.add(complete)));
@@ -695,20 +1200,57 @@ final class R2DBC {
         }
     }
 
-    static final Connection getConnection(String url) {
-        return getConnection(url, new Properties());
+    /**
+     * Whether a thread is marked as non-blocking, e.g. an event loop thread,
+     * using the <code>reactor.core.scheduler.NonBlocking</code> marker
+     * interface.
+     */
+    static final boolean isNonBlocking(Thread thread) {
+        return NON_BLOCKING.get(thread.getClass());
     }
 
-    static final Connection getConnection(String url, String username, String password) {
+    private static final ClassValue<Boolean> NON_BLOCKING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> t = type; t != null; t = t.getSuperclass())
+                for (Class<?> i : t.getInterfaces())
+                    if ("reactor.core.scheduler.NonBlocking".equals(i.getName()))
+                        return true;
+
+            return false;
+        }
+    };
+
+    /**
+     * Close a connection, blocking until it is closed, unless in a
+     * non-blocking thread.
+     */
+    static final void close(Connection connection) {
+        if (isNonBlocking(Thread.currentThread()))
+            connection.close().subscribe(subscriber(
+                s -> s.request(Long.MAX_VALUE),
+                v -> {},
+                t -> log.warn("Close", "Error when closing R2DBC connection", t),
+                () -> {}
+            ));
+        else
+            block(connection.close());
+    }
+
+    static final ConnectionFactory getConnectionFactory(String url) {
+        return getConnectionFactory(url, new Properties());
+    }
+
+    static final ConnectionFactory getConnectionFactory(String url, String username, String password) {
         Properties properties = new Properties();
         properties.setProperty("user", username);
         properties.setProperty("password", password);
-        return getConnection(url, properties);
+        return getConnectionFactory(url, properties);
     }
 
-    static final Connection getConnection(String url, Properties properties) {
+    static final ConnectionFactory getConnectionFactory(String url, Properties properties) {
         if (properties.isEmpty())
-            return block(ConnectionFactories.get(url).create());
+            return ConnectionFactories.get(url);
 
         Builder builder = ConnectionFactoryOptions.parse(url).mutate();
         properties.forEach((k, v) -> {
@@ -728,7 +1270,7 @@ final class R2DBC {
                 setOption(builder, Option.valueOf("" + k), v);
         });
 
-        return block(ConnectionFactories.get(builder.build()).create());
+        return ConnectionFactories.get(builder.build());
     }
 
     private static <T> Builder setOption(Builder builder, Option<T> option, Object v) {
@@ -973,16 +1515,24 @@ final class R2DBC {
     static final class R2DBCResultSet extends DefaultResultSet {
 
         final Configuration c;
-        final Row           r;
         final RowMetadata   m;
+        Row                 r;
         boolean             wasNull;
 
         R2DBCResultSet(Configuration c, Row r, RowMetadata m) {
             super(null, null, () -> new SQLFeatureNotSupportedException("Unsupported operation of the JDBC to R2DBC bridge."));
 
             this.c = c;
-            this.r = new DefaultRow(c, r);
             this.m = m;
+            row(r);
+        }
+
+        /**
+         * Move to another row with the same {@link RowMetadata}.
+         */
+        final void row(Row row) {
+            this.r = new DefaultRow(c, row);
+            this.wasNull = false;
         }
 
         private final <T> T wasNull(T nullable) {
@@ -1343,16 +1893,21 @@ final class R2DBC {
 
     static final class BlockingRecordSubscription<R extends Record> extends AbstractSubscription<R> {
         private final ResultQueryTrait<R> query;
+        private final ReentrantLock       lock;
         private volatile Cursor<R>        c;
 
         BlockingRecordSubscription(ResultQueryTrait<R> query, Subscriber<? super R> subscriber) {
             super(subscriber);
 
             this.query = query;
+            this.lock = new ReentrantLock();
         }
 
         @Override
-        final synchronized void request0() {
+        final void request0() {
+
+            // A lock doesn't pin virtual threads while blocking on JDBC calls
+            lock.lock();
             try {
                 if (c == null)
                     c = query.fetchLazyNonAutoClosing();
@@ -1373,6 +1928,9 @@ final class R2DBC {
                 subscriber.onError(t);
                 safeClose(c);
             }
+            finally {
+                lock.unlock();
+            }
         }
 
         @Override
@@ -119,13 +119,28 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
         this.records = new ArrayList<>();
     }
 
+    ResultImpl(Configuration configuration, AbstractRow fields, ColumnarRecords<R> records) {
+        super(configuration, fields);
+
+        this.records = records;
+    }
+
+    @Override
+    final ColumnarRecords<R> columnar() {
+        return records instanceof ColumnarRecords && !((ColumnarRecords<R>) records).materialised()
+             ? (ColumnarRecords<R>) records
+             : null;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Attachable API
     // -------------------------------------------------------------------------
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+
+        // Records of columnar results are attached when they're created
+        return records instanceof ColumnarRecords ? Collections.singletonList((ColumnarRecords<R>) records) : records;
     }
 
     // -------------------------------------------------------------------------
@@ -164,6 +179,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> List<T> getValues(Field<T> field) {
+        ColumnarRecords<R> c = columnar();
+        int i;
+
+        if (c != null && (i = fields.indexOf(field)) >= 0)
+            return c.values(i);
+
         return collect(intoList(recordType().mapper(field)));
     }
 
@@ -179,6 +200,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.values(safeIndex(fieldIndex));
+
         return collect(intoList(recordType().mapper(fieldIndex)));
     }
 
@@ -194,6 +220,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(String fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.values(indexOrFail(this, fieldName));
+
         return collect(intoList(recordType().mapper(fieldName)));
     }
 
@@ -209,6 +240,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(Name fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.values(indexOrFail(this, fieldName));
+
         return collect(intoList(recordType().mapper(fieldName)));
     }
 
@@ -223,7 +259,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     final void addRecord(R record) {
-        records.add(record);
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            c.addRecord(record);
+        else
+            records.add(record);
     }
 
     @Override
@@ -658,6 +699,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(int fieldIndex) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.array(safeIndex(fieldIndex), field(fieldIndex).getType());
+
         return collect(Records.intoArray(field(safeIndex(fieldIndex)).getType(), recordType().mapper(fieldIndex)));
     }
 
@@ -673,6 +719,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(String fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.array(indexOrFail(this, fieldName), field(fieldName).getType());
+
         return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
@@ -688,6 +739,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(Name fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.array(indexOrFail(this, fieldName), field(fieldName).getType());
+
         return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
@@ -703,6 +759,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T[] intoArray(Field<T> field) {
+        ColumnarRecords<R> c = columnar();
+        int i;
+
+        if (c != null && (i = fields.indexOf(field)) >= 0)
+            return c.array(i, field.getType());
+
         return collect(Records.intoArray(field.getType(), recordType().mapper(field)));
     }
 
@@ -1034,10 +1096,15 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Result<R> intern(int... fieldIndexes) {
+        ColumnarRecords<R> c = columnar();
+
         for (int fieldIndex : fieldIndexes)
             if (fields.field(fieldIndex).getType() == String.class)
-                for (Record record : this)
-                    ((AbstractRecord) record).intern0(fieldIndex);
+                if (c != null)
+                    c.intern(fieldIndex);
+                else
+                    for (Record record : this)
+                        ((AbstractRecord) record).intern0(fieldIndex);
 
         return this;
     }
@@ -0,0 +1,342 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Character.isWhitespace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A lexical scanner for SQL scripts, which finds query boundaries and tokens
+ * without parsing the queries.
+ * <p>
+ * Comments, string literals, quoted identifiers, and PostgreSQL style dollar
+ * quoted strings are skipped as single tokens. The scanner doesn't know any
+ * SQL dialect in detail, so its results are hints that callers must be able
+ * to verify by parsing.
+ *
+ * @author Lukas Eder
+ */
+final class ScriptScanner {
+
+    /**
+     * Split a script into parts of at least <code>size</code> characters at
+     * top level query delimiters.
+     * <p>
+     * <code>DELIMITER</code> specifications change the delimiter for
+     * subsequent queries. Delimiters within <code>BEGIN .. END</code> blocks
+     * don't delimit top level queries.
+     * <p>
+     * Scripts containing positional <code>?</code> bind markers are not split,
+     * because the markers are named after their index within the whole
+     * script.
+     */
+    static final List<Part> split(char[] c, int size) {
+        List<Part> result = new ArrayList<>();
+        String delimiter = ";";
+        Part part = new Part(0, delimiter);
+        boolean queryStart = true;
+        int depth = 0;
+        int i = 0;
+        String tag;
+
+        while (i < c.length) {
+            char ch = c[i];
+
+            if (isWhitespace(ch)) {
+                i++;
+                continue;
+            }
+
+            if (queryStart && matchesKeyword(c, i, "DELIMITER")) {
+                int eol = skipUntil(c, i, "\n");
+                delimiter = new String(c, i + 9, eol - i - 9).trim();
+                i = eol;
+                continue;
+            }
+
+            if (depth == 0 && !delimiter.isEmpty() && matches(c, i, delimiter)) {
+                i += delimiter.length();
+                queryStart = true;
+
+                if (i - part.start >= size) {
+                    part.end = i;
+                    result.add(part);
+                    part = new Part(i, delimiter);
+                }
+
+                continue;
+            }
+
+            queryStart = false;
+
+            if (ch == '-' && i + 1 < c.length && c[i + 1] == '-')
+                i = skipUntil(c, i + 2, "\n");
+            else if (ch == '/' && i + 1 < c.length && c[i + 1] == '*')
+                i = skipComment(c, i + 2);
+            else if (ch == '\'' || ch == '"' || ch == '`')
+                i = skipQuoted(c, i + 1, ch);
+            else if (ch == '$' && delimiter.charAt(0) != '$' && (tag = dollarQuote(c, i)) != null)
+                i = skipUntil(c, i + tag.length(), tag);
+            else if (Character.isJavaIdentifierStart(ch)) {
+                int start = i;
+
+                do i++;
+                while (i < c.length && Character.isJavaIdentifierPart(c[i]));
+
+                depth = block(c, start, i, depth);
+            }
+            else if (ch == '?') {
+                part = new Part(0, delimiter);
+                part.end = c.length;
+                return Collections.singletonList(part);
+            }
+            else
+                i++;
+        }
+
+        part.end = c.length;
+        result.add(part);
+        return result;
+    }
+
+    /**
+     * Track the nesting depth of procedural blocks, given a word from
+     * <code>start</code> to <code>end</code>.
+     */
+    private static final int block(char[] c, int start, int end, int depth) {
+        int length = end - start;
+
+        if (length == 5 && matchesKeyword(c, start, "BEGIN")) {
+            int next = skipWhitespace(c, end);
+
+            // BEGIN [ TRANSACTION | WORK | ... ] is not a block
+            if (next >= c.length || c[next] == ';'
+                || matchesKeyword(c, next, "TRANSACTION")
+                || matchesKeyword(c, next, "TRAN")
+                || matchesKeyword(c, next, "WORK")
+                || matchesKeyword(c, next, "DEFERRED")
+                || matchesKeyword(c, next, "IMMEDIATE")
+                || matchesKeyword(c, next, "EXCLUSIVE"))
+                return depth;
+            else
+                return depth + 1;
+        }
+        else if (length == 4 && matchesKeyword(c, start, "CASE"))
+            return depth + 1;
+        else if (length == 3 && matchesKeyword(c, start, "END")) {
+            int next = skipWhitespace(c, end);
+
+            // END IF, END LOOP, etc. close statements that don't increase the depth
+            if (matchesKeyword(c, next, "IF")
+                || matchesKeyword(c, next, "LOOP")
+                || matchesKeyword(c, next, "WHILE")
+                || matchesKeyword(c, next, "REPEAT")
+                || matchesKeyword(c, next, "FOR"))
+                return depth;
+            else
+                return Math.max(0, depth - 1);
+        }
+        else
+            return depth;
+    }
+
+    /**
+     * A part of a script.
+     */
+    static final class Part {
+        final int    start;
+        final String delimiter;
+        int          end;
+
+        Part(int start, String delimiter) {
+            this.start = start;
+            this.delimiter = delimiter;
+        }
+    }
+
+    /**
+     * Find the start of the last token of a query starting at
+     * <code>position</code>, including any whitespace preceding it.
+     * <p>
+     * Comments, string literals, and quoted identifiers are treated as single
+     * tokens, even if they aren't terminated.
+     */
+    static final int lastTokenStart(char[] c, int position) {
+        int result = position;
+        int i = position;
+        String tag;
+
+        while (i < c.length) {
+            char ch = c[i];
+
+            if (isWhitespace(ch)) {
+                i++;
+                continue;
+            }
+
+            result = i;
+
+            if (ch == '-' && i + 1 < c.length && c[i + 1] == '-')
+                i = skipUntil(c, i + 2, "\n");
+            else if (ch == '/' && i + 1 < c.length && c[i + 1] == '*')
+                i = skipComment(c, i + 2);
+            else if (ch == '\'' || ch == '"' || ch == '`')
+                i = skipQuoted(c, i + 1, ch);
+            else if (ch == '[')
+                i = skipQuoted(c, i + 1, ']');
+            else if (ch == '$' && (tag = dollarQuote(c, i)) != null)
+                i = skipUntil(c, i + tag.length(), tag);
+            else
+                do i++;
+                while (i < c.length && !isWhitespace(c[i]) && !isTokenStart(c, i));
+        }
+
+        while (result > position && isWhitespace(c[result - 1]))
+            result--;
+
+        return result;
+    }
+
+    private static final boolean isTokenStart(char[] c, int i) {
+        switch (c[i]) {
+            case '\'':
+            case '"':
+            case '`':
+                return true;
+
+            case '-':
+                return i + 1 < c.length && c[i + 1] == '-';
+
+            case '/':
+                return i + 1 < c.length && c[i + 1] == '*';
+
+            default:
+                return false;
+        }
+    }
+
+    private static final int skipWhitespace(char[] c, int i) {
+        while (i < c.length && isWhitespace(c[i]))
+            i++;
+
+        return i;
+    }
+
+    private static final int skipUntil(char[] c, int i, String end) {
+        for (; i < c.length; i++)
+            if (matches(c, i, end))
+                return i + end.length();
+
+        return c.length;
+    }
+
+    private static final int skipComment(char[] c, int i) {
+        for (int depth = 1; i < c.length; i++) {
+            if (matches(c, i, "*/")) {
+                i++;
+
+                if (--depth == 0)
+                    return i + 1;
+            }
+            else if (matches(c, i, "/*")) {
+                i++;
+                depth++;
+            }
+        }
+
+        return c.length;
+    }
+
+    private static final int skipQuoted(char[] c, int i, char quote) {
+        for (; i < c.length; i++) {
+            if (c[i] == quote) {
+
+                // Quotes are escaped by doubling them
+                if (i + 1 < c.length && c[i + 1] == quote)
+                    i++;
+                else
+                    return i + 1;
+            }
+        }
+
+        return c.length;
+    }
+
+    /**
+     * The PostgreSQL style <code>$tag$</code> dollar quote starting at
+     * <code>i</code>, if any.
+     */
+    private static final String dollarQuote(char[] c, int i) {
+        for (int j = i + 1; j < c.length; j++)
+            if (c[j] == '$')
+                return new String(c, i, j - i + 1);
+            else if (!Character.isLetterOrDigit(c[j]) && c[j] != '_')
+                return null;
+
+        return null;
+    }
+
+    private static final boolean matches(char[] c, int i, String s) {
+        if (i + s.length() > c.length)
+            return false;
+
+        for (int j = 0; j < s.length(); j++)
+            if (c[i + j] != s.charAt(j))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Whether a case insensitive keyword is found at <code>i</code>, followed
+     * by a non-identifier character.
+     */
+    private static final boolean matchesKeyword(char[] c, int i, String keyword) {
+        if (i + keyword.length() > c.length)
+            return false;
+
+        for (int j = 0; j < keyword.length(); j++)
+            if (Character.toUpperCase(c[i + j]) != keyword.charAt(j))
+                return false;
+
+        return i + keyword.length() == c.length || !Character.isJavaIdentifierPart(c[i + keyword.length()]);
+    }
+}
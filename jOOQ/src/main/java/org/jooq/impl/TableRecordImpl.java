@@ -253,7 +253,8 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            if (changed != null)
+                changed.clear(fieldIndex);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
@@ -262,7 +263,8 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            if (changed != null)
+                changed.clear(fieldIndex);
         }
     }
 
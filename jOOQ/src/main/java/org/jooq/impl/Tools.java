@@ -3163,9 +3163,13 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
+        target.originals()[targetIndex] = targetType.convert(source.original(sourceIndex));
         target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+
+        if (source.changed(sourceIndex))
+            target.changed0().set(targetIndex);
+        else if (target.changed != null)
+            target.changed.clear(targetIndex);
     }
 
     /**
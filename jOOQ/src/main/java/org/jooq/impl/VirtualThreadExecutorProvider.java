@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.jooq.ExecutorProvider;
+
+/**
+ * An {@link ExecutorProvider} implementation running each task on a new
+ * virtual thread, if supported by the JVM, or on a {@link DefaultExecutor}
+ * otherwise.
+ * <p>
+ * Virtual threads are cheap to create and to block, which makes this provider
+ * a good fit for large numbers of concurrent asynchronous queries, e.g. using
+ * {@link org.jooq.ResultQuery#fetchAsync()}, which would otherwise compete for
+ * the few threads of the {@link java.util.concurrent.ForkJoinPool#commonPool()}
+ * while blocking on JDBC calls.
+ *
+ * @author Lukas Eder
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider, Serializable {
+
+    private static final Executor EXECUTOR = executor();
+
+    @Override
+    public final Executor provide() {
+        return EXECUTOR != null ? EXECUTOR : new DefaultExecutor();
+    }
+
+    /**
+     * Whether the JVM supports virtual threads.
+     */
+    public static final boolean isSupported() {
+        return EXECUTOR != null;
+    }
+
+    private static final Executor executor() {
+
+        // Virtual threads are available from Java 21 onwards, or as a preview
+        // feature in Java 19 and 20
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+}
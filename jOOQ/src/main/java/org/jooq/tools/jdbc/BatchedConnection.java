@@ -38,6 +38,7 @@
 package org.jooq.tools.jdbc;
 
 import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
 import java.sql.CallableStatement;
@@ -50,6 +51,11 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
@@ -72,7 +78,15 @@ import java.util.regex.Pattern;
  * different SQL string.</li>
  * <li>Any other type of statement is created or other API is called, such as
  * {@link #commit()}.</li>
+ * <li>The batch size is reached, or the {@link #setFlushInterval(long) flush
+ * interval} has elapsed since the first statement was added to the batch.</li>
  * </ul>
+ * <p>
+ * The batch size can be {@link #setAdaptiveBatchSize(boolean) adapted} to the
+ * observed throughput of {@link Statement#executeBatch()} calls, and batches
+ * that reach their size can be {@link #setAsyncExecution(Executor, int)
+ * executed asynchronously}, while the calling thread keeps adding statements
+ * to the next batch.
  *
  * @author Lukas Eder
  */
@@ -82,6 +96,19 @@ public class BatchedConnection extends DefaultConnection {
     String                   lastSQL;
     BatchedPreparedStatement lastStatement;
 
+    // Adaptive batch sizing
+    boolean                  adaptive;
+    volatile int             adaptiveSize;
+    volatile double          adaptiveThroughput;
+    volatile boolean         adaptiveGrowing      = true;
+    long                     flushInterval;
+
+    // Asynchronous execution
+    Executor                 executor;
+    int                      maxInFlight;
+    Semaphore                inFlight;
+    CompletableFuture<Void>  pending              = completedFuture(null);
+
     public BatchedConnection(Connection delegate) {
         this(delegate, Integer.MAX_VALUE);
     }
@@ -90,6 +117,69 @@ public class BatchedConnection extends DefaultConnection {
         super(delegate);
 
         this.batchSize = batchSize;
+        this.adaptiveSize = Math.min(batchSize, 16);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Configuration
+    // -------------------------------------------------------------------------
+
+    public boolean getAdaptiveBatchSize() {
+        return adaptive;
+    }
+
+    /**
+     * Whether the batch size should adapt to the observed throughput of
+     * {@link Statement#executeBatch()} calls.
+     * <p>
+     * Starting from a small batch size, the size is doubled as long as this
+     * increases the number of rows executed per unit of time, and halved when
+     * it stops doing so, never exceeding the batch size passed to the
+     * constructor.
+     */
+    public void setAdaptiveBatchSize(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public long getFlushInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(flushInterval);
+    }
+
+    /**
+     * The number of milliseconds after which a batch is executed when another
+     * statement is added to it, regardless of the batch size, or
+     * <code>0</code> if there is no such time threshold.
+     */
+    public void setFlushInterval(long millis) {
+        this.flushInterval = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Execute batches that reach their size on an {@link Executor}, while the
+     * calling thread keeps adding statements to the next batch.
+     * <p>
+     * Batches are executed in the order in which they were completed, using a
+     * separate {@link PreparedStatement} per batch. When
+     * <code>maxInFlight</code> batches are executing or waiting to be
+     * executed, adding the next batch blocks. Any other interaction with this
+     * connection waits for all batches to complete, and execution errors are
+     * reported on the next interaction. This requires a JDBC driver that
+     * allows for binding values to a statement while another statement of the
+     * same connection is being executed.
+     *
+     * @param executor The executor to execute batches on, or
+     *            <code>null</code> to execute batches synchronously.
+     * @param maxInFlight The maximum number of batches that are executed
+     *            asynchronously.
+     */
+    public void setAsyncExecution(Executor executor, int maxInFlight) {
+        this.executor = maxInFlight > 0 ? executor : null;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
     }
 
     // -------------------------------------------------------------------------
@@ -117,14 +207,116 @@ public class BatchedConnection extends DefaultConnection {
     }
 
     void executeLastBatch() throws SQLException {
-        if (lastStatement != null) {
-            if (lastStatement.batches > 0)
+        try {
+            awaitBatches();
+
+            if (lastStatement != null && lastStatement.batches > 0)
                 lastStatement.executeBatch();
+        }
+        finally {
+            if (lastStatement != null) {
+                lastStatement.closeSpares();
+                safeClose(lastStatement);
+            }
+
+            clearLastBatch();
+        }
+    }
+
+    /**
+     * The current batch size.
+     */
+    int batchSize() {
+        return adaptive ? adaptiveSize : batchSize;
+    }
+
+    /**
+     * Adapt the batch size to a batch's execution time.
+     */
+    void executed(int rows, long nanos) {
+
+        // Batches executed early don't tell us anything about the batch size
+        if (!adaptive || rows < adaptiveSize)
+            return;
 
-            safeClose(lastStatement);
+        double throughput = rows / (double) Math.max(nanos, 1L);
+
+        // The last change made things worse. Change direction
+        if (throughput < adaptiveThroughput * 0.9)
+            adaptiveGrowing = !adaptiveGrowing;
+
+        adaptiveSize = adaptiveGrowing
+            ? (int) Math.min(batchSize, adaptiveSize * 2L)
+            : Math.max(1, adaptiveSize / 2);
+        adaptiveThroughput = throughput;
+    }
+
+    /**
+     * Execute a statement's current batch asynchronously, after all previously
+     * submitted batches.
+     */
+    void executeAsync(BatchedPreparedStatement s) throws SQLException {
+
+        // Report errors from previous batches
+        if (pending.isCompletedExceptionally())
+            awaitBatches();
+
+        try {
+            inFlight.acquire();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for batches to execute", e);
         }
 
-        clearLastBatch();
+        int rows = s.batches;
+        PreparedStatement batch;
+
+        try {
+            batch = s.swap();
+        }
+        catch (SQLException | RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+
+        CompletableFuture<Void> f = pending.thenRunAsync(() -> {
+            try {
+                long start = System.nanoTime();
+                batch.executeBatch();
+                executed(rows, System.nanoTime() - start);
+                batch.clearBatch();
+                s.spares.offer(batch);
+            }
+            catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+
+        f.whenComplete((r, t) -> inFlight.release());
+        pending = f;
+    }
+
+    /**
+     * Wait for all asynchronously executed batches to complete.
+     */
+    void awaitBatches() throws SQLException {
+        CompletableFuture<Void> f = pending;
+
+        if (f.isDone() && !f.isCompletedExceptionally())
+            return;
+
+        try {
+            f.join();
+        }
+        catch (CompletionException e) {
+            pending = completedFuture(null);
+
+            if (e.getCause() instanceof SQLException)
+                throw (SQLException) e.getCause();
+            else
+                throw new SQLException("Error while executing batch", e.getCause());
+        }
     }
 
     void clearLastBatch() {
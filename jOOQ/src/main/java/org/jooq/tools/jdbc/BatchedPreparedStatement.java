@@ -37,9 +37,14 @@
  */
 package org.jooq.tools.jdbc;
 
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jooq.tools.JooqLogger;
 
@@ -60,6 +65,11 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
     int                             batches;
     boolean                         executeImmediate;
     boolean                         getMoreResults = true;
+    long                            firstBatch;
+
+    // Double buffering for asynchronous execution
+    PreparedStatement               current;
+    final Queue<PreparedStatement>  spares         = new ConcurrentLinkedQueue<>();
 
     public BatchedPreparedStatement(String sql, BatchedConnection connection, PreparedStatement delegate) {
         super(delegate, connection);
@@ -79,6 +89,29 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
         this.executeImmediate = executeImmediate;
     }
 
+    /**
+     * Replace the statement holding the current batch by a spare one, for the
+     * current batch to be executed asynchronously.
+     */
+    PreparedStatement swap() throws SQLException {
+        PreparedStatement result = getDelegatePreparedStatement();
+        PreparedStatement spare = spares.poll();
+
+        current = spare != null ? spare : getBatchedConnection().getDelegate().prepareStatement(sql);
+        logExecution();
+        return result;
+    }
+
+    /**
+     * Close the spare statements that are not currently used.
+     */
+    void closeSpares() {
+        PreparedStatement spare;
+
+        while ((spare = spares.poll()) != null)
+            safeClose(spare);
+    }
+
     private void resetBatches() {
         batches = 0;
     }
@@ -113,6 +146,11 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
     // XXX: Wrappers
     // -------------------------------------------------------------------------
 
+    @Override
+    public Statement getDelegateStatement() throws SQLException {
+        return current != null ? current : super.getDelegateStatement();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
@@ -192,15 +230,23 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
 
     @Override
     public void addBatch() throws SQLException {
-        getBatchedConnection().setBatch(this);
-        batches++;
+        BatchedConnection c = getBatchedConnection();
+
+        c.setBatch(this);
+        if (++batches == 1)
+            firstBatch = System.nanoTime();
         logBatch();
         super.addBatch();
 
-        if (batches >= getBatchedConnection().batchSize) {
-            getBatchedConnection().executeLastBatch();
-            batches = 0;
-            super.clearBatch();
+        if (batches >= c.batchSize() || c.flushInterval > 0 && System.nanoTime() - firstBatch >= c.flushInterval) {
+            if (c.executor != null) {
+                c.executeAsync(this);
+            }
+            else {
+                c.executeLastBatch();
+                batches = 0;
+                super.clearBatch();
+            }
         }
     }
 
@@ -211,14 +257,24 @@ public class BatchedPreparedStatement extends DefaultPreparedStatement {
 
     @Override
     public int[] executeBatch() throws SQLException {
+        int rows = batches;
         logExecution();
-        return super.executeBatch();
+
+        long start = System.nanoTime();
+        int[] result = super.executeBatch();
+        getBatchedConnection().executed(rows, System.nanoTime() - start);
+        return result;
     }
 
     @Override
     public long[] executeLargeBatch() throws SQLException {
+        int rows = batches;
         logExecution();
-        return super.executeLargeBatch();
+
+        long start = System.nanoTime();
+        long[] result = super.executeLargeBatch();
+        getBatchedConnection().executed(rows, System.nanoTime() - start);
+        return result;
     }
 
     // -------------------------------------------------------------------------